@@ -0,0 +1,29 @@
+package kitchenpos;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+
+public class BenchmarkApplication {
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(final String name, final int orderCount) {
+        final ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + name + "-" + orderCount + ";DB_CLOSE_DELAY=-1",
+                        "spring.main.banner-mode=off",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+                )
+                .run();
+        final DataSource dataSource = context.getBean(DataSource.class);
+        BenchmarkDatabase.seed(dataSource, orderCount);
+        BenchmarkDatabase.refreshActiveOrderCounts(dataSource);
+        return context;
+    }
+}
@@ -0,0 +1,61 @@
+package kitchenpos;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+public class BenchmarkDatabase {
+    public static final int ORDER_TABLE_COUNT = 1_000;
+    public static final int TABLE_GROUP_COUNT = 100;
+    public static final int MENU_COUNT = 1_000;
+
+    private BenchmarkDatabase() {
+    }
+
+    public static DataSource create(final String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    public static DataSource migrate(final String name, final String targetVersion) {
+        final DataSource dataSource = create(name);
+        Flyway.configure()
+                .dataSource(dataSource)
+                .target(targetVersion)
+                .load()
+                .migrate();
+        return dataSource;
+    }
+
+    public static void seed(final DataSource dataSource, final int orderCount) {
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.update("INSERT INTO menu (name, price, menu_group_id)" +
+                " SELECT CONCAT('menu-', X), 16000, 1 FROM SYSTEM_RANGE(1, ?)", MENU_COUNT);
+        jdbcTemplate.update("INSERT INTO menu_product (menu_id, product_id, quantity)" +
+                " SELECT m.id, MOD(m.id + r.X, 6) + 1, 1 FROM menu m CROSS JOIN SYSTEM_RANGE(1, 3) r");
+
+        jdbcTemplate.update("INSERT INTO table_group (created_date)" +
+                " SELECT CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)", TABLE_GROUP_COUNT);
+        jdbcTemplate.update("INSERT INTO order_table (number_of_guests, empty)" +
+                " SELECT 4, FALSE FROM SYSTEM_RANGE(1, ?)", ORDER_TABLE_COUNT);
+        jdbcTemplate.update("UPDATE order_table SET table_group_id = MOD(id, ?) + 1 WHERE MOD(id, 10) = 0",
+                TABLE_GROUP_COUNT);
+
+        final Integer tableCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_table", Integer.class);
+        jdbcTemplate.update("INSERT INTO orders (order_table_id, order_status, ordered_time)" +
+                        " SELECT MOD(X, ?) + 1," +
+                        " CASE WHEN MOD(X, 100) = 0 THEN 'COOKING' WHEN MOD(X, 100) = 1 THEN 'MEAL' ELSE 'COMPLETION' END," +
+                        " DATEADD('SECOND', X, TIMESTAMP '2023-01-01 00:00:00')" +
+                        " FROM SYSTEM_RANGE(1, ?)",
+                tableCount, orderCount);
+        jdbcTemplate.update("INSERT INTO order_line_item (order_id, menu_id, quantity)" +
+                " SELECT o.id, MOD(o.id + r.X, 6) + 1, r.X FROM orders o CROSS JOIN SYSTEM_RANGE(1, 2) r");
+    }
+
+    public static void refreshActiveOrderCounts(final DataSource dataSource) {
+        new JdbcTemplate(dataSource).update("UPDATE order_table t SET active_order_count =" +
+                " (SELECT COUNT(*) FROM orders o WHERE o.order_table_id = t.id AND o.order_status IN ('COOKING', 'MEAL'))");
+    }
+}
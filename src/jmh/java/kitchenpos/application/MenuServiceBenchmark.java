@@ -0,0 +1,70 @@
+package kitchenpos.application;
+
+import kitchenpos.BenchmarkApplication;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MenuServiceBenchmark {
+    private static final int PRODUCT_COUNT = 6;
+
+    @Param({"1000", "100000", "1000000"})
+    private int orderCount;
+
+    @Param({"2", "24"})
+    private int menuProductCount;
+
+    private ConfigurableApplicationContext context;
+    private MenuService menuService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("menu-service", orderCount);
+        menuService = context.getBean(MenuService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Menu create() {
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < menuProductCount; i++) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId((long) i % PRODUCT_COUNT + 1);
+            menuProduct.setQuantity(1);
+            menuProducts.add(menuProduct);
+        }
+        final Menu menu = new Menu();
+        menu.setName("benchmark");
+        menu.setPrice(Money.ofMinorUnits(1_600_000L));
+        menu.setMenuGroupId(1L);
+        menu.setMenuProducts(menuProducts);
+        return menuService.create(menu);
+    }
+
+    @Benchmark
+    public List<Menu> list() {
+        return menuService.list();
+    }
+}
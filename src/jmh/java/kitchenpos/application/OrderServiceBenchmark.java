@@ -0,0 +1,78 @@
+package kitchenpos.application;
+
+import kitchenpos.BenchmarkApplication;
+import kitchenpos.BenchmarkDatabase;
+import kitchenpos.dao.OrderSearchCondition;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderServiceBenchmark {
+    private static final int DEFAULT_ORDER_TABLE_COUNT = 8;
+    private static final int DEFAULT_MENU_COUNT = 6;
+    private static final int ORDER_LINE_ITEM_COUNT = 3;
+
+    @Param({"1000", "100000", "1000000"})
+    private int orderCount;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("order-service", orderCount);
+        orderService = context.getBean(OrderService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order create() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (int i = 0; i < ORDER_LINE_ITEM_COUNT; i++) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId((long) DEFAULT_MENU_COUNT + i * 100 + random.nextInt(100) + 1);
+            orderLineItem.setQuantity(1);
+            orderLineItems.add(orderLineItem);
+        }
+        final Order order = new Order();
+        order.setOrderTableId((long) DEFAULT_ORDER_TABLE_COUNT + random.nextInt(BenchmarkDatabase.ORDER_TABLE_COUNT) + 1);
+        order.setOrderLineItems(orderLineItems);
+        return orderService.create(order);
+    }
+
+    @Benchmark
+    public void export(final Blackhole blackhole) {
+        orderService.export(blackhole::consume);
+    }
+
+    @Benchmark
+    public void listPage(final Blackhole blackhole) {
+        final long after = ThreadLocalRandom.current().nextLong(orderCount);
+        final OrderSearchCondition condition = new OrderSearchCondition(after, 100, null, null, null, null, false);
+        orderService.list(orderService.findIds(condition), false, blackhole::consume);
+    }
+}
@@ -0,0 +1,91 @@
+package kitchenpos.application;
+
+import kitchenpos.BenchmarkApplication;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.TableGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TableGroupServiceBenchmark {
+    @State(Scope.Benchmark)
+    public static class Context {
+        @Param({"1000", "100000", "1000000"})
+        private int orderCount;
+
+        @Param({"2", "20", "200"})
+        private int tableCount;
+
+        private ConfigurableApplicationContext context;
+        private TableService tableService;
+        private TableGroupService tableGroupService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkApplication.start("table-group-service", orderCount);
+            tableService = context.getBean(TableService.class);
+            tableGroupService = context.getBean(TableGroupService.class);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        private TableGroup newTableGroup() {
+            final List<OrderTable> orderTables = new ArrayList<>();
+            for (int i = 0; i < tableCount; i++) {
+                final OrderTable orderTable = new OrderTable();
+                orderTable.setEmpty(true);
+                orderTables.add(tableService.create(orderTable));
+            }
+            final TableGroup tableGroup = new TableGroup();
+            tableGroup.setOrderTables(orderTables);
+            return tableGroup;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class UngroupedTables {
+        private TableGroup tableGroup;
+
+        @Setup(Level.Invocation)
+        public void setUp(final Context context) {
+            tableGroup = context.newTableGroup();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class GroupedTables {
+        private Long tableGroupId;
+
+        @Setup(Level.Invocation)
+        public void setUp(final Context context) {
+            tableGroupId = context.tableGroupService.create(context.newTableGroup()).getId();
+        }
+    }
+
+    @Benchmark
+    public TableGroup create(final Context context, final UngroupedTables tables) {
+        return context.tableGroupService.create(tables.tableGroup);
+    }
+
+    @Benchmark
+    public void ungroup(final Context context, final GroupedTables tables) {
+        context.tableGroupService.ungroup(tables.tableGroupId);
+    }
+}
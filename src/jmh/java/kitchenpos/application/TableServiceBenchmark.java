@@ -0,0 +1,50 @@
+package kitchenpos.application;
+
+import kitchenpos.BenchmarkApplication;
+import kitchenpos.domain.OrderTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TableServiceBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int orderCount;
+
+    private ConfigurableApplicationContext context;
+    private TableService tableService;
+    private Long orderTableId;
+    private boolean empty;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("table-service", orderCount);
+        tableService = context.getBean(TableService.class);
+        orderTableId = tableService.create(new OrderTable()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderTable changeEmpty() {
+        empty = !empty;
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(empty);
+        return tableService.changeEmpty(orderTableId, orderTable);
+    }
+}
@@ -0,0 +1,99 @@
+package kitchenpos.dao;
+
+import kitchenpos.BenchmarkDatabase;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DaoInsertBenchmark {
+    private static final int ORDER_COUNT = 1_000;
+
+    private OrderDao orderDao;
+    private OrderTableDao orderTableDao;
+    private ProductDao productDao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final DataSource dataSource = BenchmarkDatabase.migrate("dao-insert", "latest");
+        BenchmarkDatabase.seed(dataSource, ORDER_COUNT);
+        orderDao = new JdbcTemplateOrderDao(dataSource);
+        orderTableDao = new JdbcTemplateOrderTableDao(dataSource);
+        productDao = new JdbcTemplateProductDao(dataSource);
+    }
+
+    @Benchmark
+    public Order saveOrder() {
+        return orderDao.save(newOrder());
+    }
+
+    @Benchmark
+    public Order saveOrderAndReadBack() {
+        final Order savedOrder = orderDao.save(newOrder());
+        return orderDao.findById(savedOrder.getId())
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    @Benchmark
+    public OrderTable saveOrderTable() {
+        return orderTableDao.save(newOrderTable());
+    }
+
+    @Benchmark
+    public OrderTable saveOrderTableAndReadBack() {
+        final OrderTable savedOrderTable = orderTableDao.save(newOrderTable());
+        return orderTableDao.findById(savedOrderTable.getId())
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    @Benchmark
+    public Product saveProduct() {
+        return productDao.save(newProduct());
+    }
+
+    @Benchmark
+    public Product saveProductAndReadBack() {
+        final Product savedProduct = productDao.save(newProduct());
+        return productDao.findById(savedProduct.getId())
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    private Order newOrder() {
+        final Order order = new Order();
+        order.setOrderTableId(ThreadLocalRandom.current().nextLong(BenchmarkDatabase.ORDER_TABLE_COUNT) + 1);
+        order.setOrderStatus(OrderStatus.COOKING.name());
+        order.setOrderedTime(LocalDateTime.now());
+        return order;
+    }
+
+    private OrderTable newOrderTable() {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setNumberOfGuests(0);
+        orderTable.setEmpty(true);
+        return orderTable;
+    }
+
+    private Product newProduct() {
+        final Product product = new Product();
+        product.setName("product");
+        product.setPrice(Money.ofMinorUnits(1_600_000L));
+        return product;
+    }
+}
@@ -0,0 +1,77 @@
+package kitchenpos.dao;
+
+import kitchenpos.BenchmarkDatabase;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LookupIndexBenchmark {
+    private static final List<String> ACTIVE_ORDER_STATUSES =
+            Arrays.asList(OrderStatus.COOKING.name(), OrderStatus.MEAL.name());
+
+    @Param({"3", "4"})
+    private String schemaVersion;
+
+    @Param({"1000000", "3000000"})
+    private int orderCount;
+
+    private OrderDao orderDao;
+    private OrderLineItemDao orderLineItemDao;
+    private MenuProductDao menuProductDao;
+    private OrderTableDao orderTableDao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final String name = "lookup-index-" + schemaVersion + "-" + orderCount;
+        final DataSource dataSource = BenchmarkDatabase.migrate(name, schemaVersion);
+        BenchmarkDatabase.seed(dataSource, orderCount);
+        orderDao = new JdbcTemplateOrderDao(dataSource);
+        orderLineItemDao = new JdbcTemplateOrderLineItemDao(dataSource);
+        menuProductDao = new JdbcTemplateMenuProductDao(dataSource);
+        orderTableDao = new JdbcTemplateOrderTableDao(dataSource);
+    }
+
+    @Benchmark
+    public boolean existsActiveOrderByOrderTableId() {
+        final long orderTableId = randomId(BenchmarkDatabase.ORDER_TABLE_COUNT);
+        return orderDao.existsByOrderTableIdAndOrderStatusIn(orderTableId, ACTIVE_ORDER_STATUSES);
+    }
+
+    @Benchmark
+    public List<OrderLineItem> findOrderLineItemsByOrderId() {
+        return orderLineItemDao.findAllByOrderId(randomId(orderCount));
+    }
+
+    @Benchmark
+    public List<MenuProduct> findMenuProductsByMenuId() {
+        return menuProductDao.findAllByMenuId(randomId(BenchmarkDatabase.MENU_COUNT));
+    }
+
+    @Benchmark
+    public List<OrderTable> findOrderTablesByTableGroupId() {
+        return orderTableDao.findAllByTableGroupId(randomId(BenchmarkDatabase.TABLE_GROUP_COUNT));
+    }
+
+    private long randomId(final int bound) {
+        return ThreadLocalRandom.current().nextLong(bound) + 1;
+    }
+}
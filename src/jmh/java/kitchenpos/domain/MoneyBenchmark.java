@@ -0,0 +1,81 @@
+package kitchenpos.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+    @Param({"3", "10", "50"})
+    private int itemCount;
+
+    private BigDecimal[] decimalPrices;
+    private Money[] moneyPrices;
+    private long[] quantities;
+    private BigDecimal decimalMenuPrice;
+    private Money moneyMenuPrice;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        decimalPrices = new BigDecimal[itemCount];
+        moneyPrices = new Money[itemCount];
+        quantities = new long[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            final long minorUnits = random.nextLong(100L, 5_000_000L);
+            decimalPrices[i] = BigDecimal.valueOf(minorUnits, Money.SCALE);
+            moneyPrices[i] = Money.ofMinorUnits(minorUnits);
+            quantities[i] = random.nextLong(1L, 5L);
+        }
+        decimalMenuPrice = BigDecimal.valueOf(1_600_000L, Money.SCALE);
+        moneyMenuPrice = Money.ofMinorUnits(1_600_000L);
+    }
+
+    @Benchmark
+    public boolean validateMenuPriceWithBigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            sum = sum.add(decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return decimalMenuPrice.compareTo(sum) <= 0;
+    }
+
+    @Benchmark
+    public boolean validateMenuPriceWithMoney() {
+        Money sum = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            sum = sum.plus(moneyPrices[i].times(quantities[i]));
+        }
+        return !moneyMenuPrice.isGreaterThan(sum);
+    }
+
+    @Benchmark
+    public BigDecimal orderTotalWithBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            total = total.add(decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money orderTotalWithMoney() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            total = total.plus(moneyPrices[i].times(quantities[i]));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,75 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonSerializationBenchmark {
+    private static final int ORDER_LINE_ITEM_COUNT = 3;
+
+    @Param({"1000", "100000"})
+    private int orderCount;
+
+    private ObjectMapper objectMapper;
+    private List<Order> orders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        orders = new ArrayList<>(orderCount);
+        final LocalDateTime orderedTime = LocalDateTime.now();
+        for (long id = 1; id <= orderCount; id++) {
+            final List<OrderLineItem> orderLineItems = new ArrayList<>(ORDER_LINE_ITEM_COUNT);
+            for (int i = 0; i < ORDER_LINE_ITEM_COUNT; i++) {
+                final OrderLineItem orderLineItem = new OrderLineItem();
+                orderLineItem.setSeq(id * ORDER_LINE_ITEM_COUNT + i);
+                orderLineItem.setOrderId(id);
+                orderLineItem.setMenuId((long) i + 1);
+                orderLineItem.setQuantity(1);
+                orderLineItems.add(orderLineItem);
+            }
+            final Order order = new Order();
+            order.setId(id);
+            order.setOrderTableId(id % 100 + 1);
+            order.setOrderStatus(OrderStatus.COOKING.name());
+            order.setOrderedTime(orderedTime);
+            order.setOrderLineItems(orderLineItems);
+            orders.add(order);
+        }
+    }
+
+    @Benchmark
+    public void objectMapper() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), orders);
+    }
+
+    @Benchmark
+    public void streamingJson() throws IOException {
+        StreamingJson.array(objectMapper.getFactory(), orders::forEach, StreamingJson::writeOrder)
+                .writeTo(OutputStream.nullOutputStream());
+    }
+}
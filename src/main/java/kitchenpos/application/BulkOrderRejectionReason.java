@@ -0,0 +1,6 @@
+package kitchenpos.application;
+
+public enum BulkOrderRejectionReason {
+    EMPTY_ORDER_LINE_ITEMS, DUPLICATE_MENU, UNKNOWN_MENU, UNKNOWN_ORDER_TABLE, EMPTY_ORDER_TABLE, INVALID_ORDER,
+    DATA_ACCESS_FAILURE
+}
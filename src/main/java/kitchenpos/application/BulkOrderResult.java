@@ -0,0 +1,46 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+public class BulkOrderResult {
+    private final int index;
+    private final boolean created;
+    private final Order order;
+    private final BulkOrderRejectionReason rejectionReason;
+
+    private BulkOrderResult(
+            final int index,
+            final boolean created,
+            final Order order,
+            final BulkOrderRejectionReason rejectionReason
+    ) {
+        this.index = index;
+        this.created = created;
+        this.order = order;
+        this.rejectionReason = rejectionReason;
+    }
+
+    public static BulkOrderResult created(final int index, final Order order) {
+        return new BulkOrderResult(index, true, order, null);
+    }
+
+    public static BulkOrderResult rejected(final int index, final BulkOrderRejectionReason rejectionReason) {
+        return new BulkOrderResult(index, false, null, rejectionReason);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    public BulkOrderRejectionReason getRejectionReason() {
+        return rejectionReason;
+    }
+}
@@ -0,0 +1,35 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+public class BulkOrderStatusResult {
+    private final Long orderId;
+    private final boolean changed;
+    private final Order order;
+
+    private BulkOrderStatusResult(final Long orderId, final boolean changed, final Order order) {
+        this.orderId = orderId;
+        this.changed = changed;
+        this.order = order;
+    }
+
+    public static BulkOrderStatusResult changed(final Order order) {
+        return new BulkOrderStatusResult(order.getId(), true, order);
+    }
+
+    public static BulkOrderStatusResult rejected(final Long orderId, final Order order) {
+        return new BulkOrderStatusResult(orderId, false, order);
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public boolean isChanged() {
+        return changed;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+}
@@ -0,0 +1,5 @@
+package kitchenpos.application;
+
+public enum CatalogType {
+    MENU, MENU_GROUP, PRODUCT
+}
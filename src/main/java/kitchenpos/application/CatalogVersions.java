@@ -0,0 +1,39 @@
+package kitchenpos.application;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class CatalogVersions {
+    private final long epoch = System.currentTimeMillis();
+    private final Map<CatalogType, AtomicLong> versions = new EnumMap<>(CatalogType.class);
+
+    public CatalogVersions() {
+        for (final CatalogType catalogType : CatalogType.values()) {
+            versions.put(catalogType, new AtomicLong());
+        }
+    }
+
+    public String getETag(final CatalogType catalogType) {
+        return epoch + "-" + versions.get(catalogType).get();
+    }
+
+    public void bump(final CatalogType catalogType) {
+        final AtomicLong version = versions.get(catalogType);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.incrementAndGet();
+            }
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuProductDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+public class MenuCatalog {
+    private final MenuDao menuDao;
+    private final MenuProductDao menuProductDao;
+    private final AtomicLong version = new AtomicLong();
+    private final SingleFlight<Long, List<Menu>> rebuildFlight = new SingleFlight<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer rebuildTimer;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public MenuCatalog(
+            final MenuDao menuDao,
+            final MenuProductDao menuProductDao,
+            final MeterRegistry meterRegistry
+    ) {
+        this.menuDao = menuDao;
+        this.menuProductDao = menuProductDao;
+        this.hitCounter = Counter.builder("kitchenpos.menu.catalog.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("kitchenpos.menu.catalog.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("kitchenpos.menu.catalog.rebuild")
+                .register(meterRegistry);
+    }
+
+    public List<Menu> getMenus() {
+        final Snapshot current = snapshot;
+        if (current.version == version.get()) {
+            hitCounter.increment();
+            return copyOf(current.menus);
+        }
+        missCounter.increment();
+        final long loadingVersion = version.get();
+        return copyOf(rebuildFlight.execute(loadingVersion, () -> rebuild(loadingVersion)));
+    }
+
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    private List<Menu> rebuild(final long loadingVersion) {
+        final List<Menu> menus = rebuildTimer.record(this::load);
+        snapshot = new Snapshot(loadingVersion, menus);
+        return menus;
+    }
+
+    private List<Menu> load() {
+        final Map<Long, List<MenuProduct>> menuProductsByMenuId = menuProductDao.findAll()
+                .stream()
+                .collect(Collectors.groupingBy(MenuProduct::getMenuId));
+
+        final List<Menu> menus = menuDao.findAll();
+        for (final Menu menu : menus) {
+            final List<MenuProduct> menuProducts = menuProductsByMenuId.getOrDefault(menu.getId(), new ArrayList<>());
+            menu.setMenuProducts(Collections.unmodifiableList(menuProducts));
+        }
+        return Collections.unmodifiableList(menus);
+    }
+
+    private static List<Menu> copyOf(final List<Menu> menus) {
+        final List<Menu> copies = new ArrayList<>(menus.size());
+        for (final Menu menu : menus) {
+            copies.add(copyOf(menu));
+        }
+        return copies;
+    }
+
+    private static Menu copyOf(final Menu menu) {
+        final List<MenuProduct> menuProducts = new ArrayList<>(menu.getMenuProducts().size());
+        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
+            menuProducts.add(copyOf(menuProduct));
+        }
+        final Menu copy = new Menu();
+        copy.setId(menu.getId());
+        copy.setName(menu.getName());
+        copy.setPrice(menu.getPrice());
+        copy.setMenuGroupId(menu.getMenuGroupId());
+        copy.setMenuProducts(menuProducts);
+        return copy;
+    }
+
+    private static MenuProduct copyOf(final MenuProduct menuProduct) {
+        final MenuProduct copy = new MenuProduct();
+        copy.setSeq(menuProduct.getSeq());
+        copy.setMenuId(menuProduct.getMenuId());
+        copy.setProductId(menuProduct.getProductId());
+        copy.setQuantity(menuProduct.getQuantity());
+        return copy;
+    }
+
+    private static class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(-1L, Collections.emptyList());
+
+        private final long version;
+        private final List<Menu> menus;
+
+        private Snapshot(final long version, final List<Menu> menus) {
+            this.version = version;
+            this.menus = menus;
+        }
+    }
+}
@@ -10,17 +10,22 @@ import java.util.List;
 @Service
 public class MenuGroupService {
     private final MenuGroupDao menuGroupDao;
+    private final CatalogVersions catalogVersions;
+    private final SingleFlight<String, List<MenuGroup>> listFlight = new SingleFlight<>();
 
-    public MenuGroupService(final MenuGroupDao menuGroupDao) {
+    public MenuGroupService(final MenuGroupDao menuGroupDao, final CatalogVersions catalogVersions) {
         this.menuGroupDao = menuGroupDao;
+        this.catalogVersions = catalogVersions;
     }
 
     @Transactional
     public MenuGroup create(final MenuGroup menuGroup) {
-        return menuGroupDao.save(menuGroup);
+        final MenuGroup savedMenuGroup = menuGroupDao.save(menuGroup);
+        catalogVersions.bump(CatalogType.MENU_GROUP);
+        return savedMenuGroup;
     }
 
     public List<MenuGroup> list() {
-        return menuGroupDao.findAll();
+        return listFlight.execute(catalogVersions.getETag(CatalogType.MENU_GROUP), menuGroupDao::findAll);
     }
 }
@@ -6,14 +6,17 @@ import kitchenpos.dao.MenuProductDao;
 import kitchenpos.dao.ProductDao;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
 import kitchenpos.domain.Product;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class MenuService {
@@ -21,24 +24,30 @@ public class MenuService {
     private final MenuGroupDao menuGroupDao;
     private final MenuProductDao menuProductDao;
     private final ProductDao productDao;
+    private final MenuCatalog menuCatalog;
+    private final CatalogVersions catalogVersions;
 
     public MenuService(
             final MenuDao menuDao,
             final MenuGroupDao menuGroupDao,
             final MenuProductDao menuProductDao,
-            final ProductDao productDao
+            final ProductDao productDao,
+            final MenuCatalog menuCatalog,
+            final CatalogVersions catalogVersions
     ) {
         this.menuDao = menuDao;
         this.menuGroupDao = menuGroupDao;
         this.menuProductDao = menuProductDao;
         this.productDao = productDao;
+        this.menuCatalog = menuCatalog;
+        this.catalogVersions = catalogVersions;
     }
 
     @Transactional
     public Menu create(final Menu menu) {
-        final BigDecimal price = menu.getPrice();
+        final Money price = menu.getPrice();
 
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
 
@@ -48,37 +57,47 @@ public class MenuService {
 
         final List<MenuProduct> menuProducts = menu.getMenuProducts();
 
-        BigDecimal sum = BigDecimal.ZERO;
+        final List<Long> productIds = menuProducts.stream()
+                .map(MenuProduct::getProductId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        final Map<Long, Product> productsById = productDao.findAllByIdIn(productIds)
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        Money sum = Money.ZERO;
         for (final MenuProduct menuProduct : menuProducts) {
-            final Product product = productDao.findById(menuProduct.getProductId())
-                    .orElseThrow(IllegalArgumentException::new);
-            sum = sum.add(product.getPrice().multiply(BigDecimal.valueOf(menuProduct.getQuantity())));
+            final Product product = productsById.get(menuProduct.getProductId());
+            if (Objects.isNull(product)) {
+                throw new IllegalArgumentException();
+            }
+            sum = sum.plus(product.getPrice().times(menuProduct.getQuantity()));
         }
 
-        if (price.compareTo(sum) > 0) {
+        if (price.isGreaterThan(sum)) {
             throw new IllegalArgumentException();
         }
 
         final Menu savedMenu = menuDao.save(menu);
 
         final Long menuId = savedMenu.getId();
-        final List<MenuProduct> savedMenuProducts = new ArrayList<>();
         for (final MenuProduct menuProduct : menuProducts) {
             menuProduct.setMenuId(menuId);
-            savedMenuProducts.add(menuProductDao.save(menuProduct));
         }
-        savedMenu.setMenuProducts(savedMenuProducts);
+        savedMenu.setMenuProducts(menuProductDao.saveAll(menuProducts));
+
+        menuCatalog.invalidate();
+        catalogVersions.bump(CatalogType.MENU);
 
         return savedMenu;
     }
 
     public List<Menu> list() {
-        final List<Menu> menus = menuDao.findAll();
-
-        for (final Menu menu : menus) {
-            menu.setMenuProducts(menuProductDao.findAllByMenuId(menu.getId()));
-        }
+        return menuCatalog.getMenus();
+    }
 
-        return menus;
+    public void list(final Consumer<Menu> consumer) {
+        menuCatalog.getMenus().forEach(consumer);
     }
 }
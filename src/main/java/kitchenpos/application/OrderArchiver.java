@@ -0,0 +1,58 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderArchiveDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+public class OrderArchiver {
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiver.class);
+
+    private final OrderArchiveDao orderArchiveDao;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration minimumAge;
+    private final int batchSize;
+
+    public OrderArchiver(
+            final OrderArchiveDao orderArchiveDao,
+            final PlatformTransactionManager transactionManager,
+            @Value("${kitchenpos.order.archive.enabled:false}") final boolean enabled,
+            @Value("${kitchenpos.order.archive.minimum-age:30d}") final Duration minimumAge,
+            @Value("${kitchenpos.order.archive.batch-size:500}") final int batchSize
+    ) {
+        this.orderArchiveDao = orderArchiveDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.minimumAge = minimumAge;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order.archive.interval:PT10M}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        final LocalDateTime orderedBefore = LocalDateTime.now().minus(minimumAge);
+        long after = 0L;
+        int archivedCount = 0;
+        List<Long> orderIds;
+        while (!(orderIds = orderArchiveDao.findArchivableIds(orderedBefore, after, batchSize)).isEmpty()) {
+            final List<Long> batch = orderIds;
+            archivedCount += transactionTemplate.execute(status -> orderArchiveDao.archive(batch));
+            after = batch.get(batch.size() - 1);
+        }
+        if (archivedCount > 0) {
+            log.info("archived {} completed orders placed before {}", archivedCount, orderedBefore);
+        }
+    }
+}
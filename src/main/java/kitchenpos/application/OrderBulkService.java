@@ -0,0 +1,341 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.dao.SalesRollupDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.CollectionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class OrderBulkService {
+    private static final int CHUNK_SIZE = 100;
+    private static final int MAX_ORDER_IDS = 1_000;
+    private static final int MAX_ORDER_TABLE_IDS = 100;
+    private static final int MAX_ORDER_TABLE_ORDERS = 1_000;
+
+    private final MenuDao menuDao;
+    private final OrderDao orderDao;
+    private final OrderLineItemDao orderLineItemDao;
+    private final OrderTableDao orderTableDao;
+    private final SalesRollupDao salesRollupDao;
+    private final OrderService orderService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderBulkService(
+            final MenuDao menuDao,
+            final OrderDao orderDao,
+            final OrderLineItemDao orderLineItemDao,
+            final OrderTableDao orderTableDao,
+            final SalesRollupDao salesRollupDao,
+            final OrderService orderService,
+            final ApplicationEventPublisher eventPublisher,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.menuDao = menuDao;
+        this.orderDao = orderDao;
+        this.orderLineItemDao = orderLineItemDao;
+        this.orderTableDao = orderTableDao;
+        this.salesRollupDao = salesRollupDao;
+        this.orderService = orderService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public List<BulkOrderResult> createAll(final List<Order> orders) {
+        return createAll(orders, CHUNK_SIZE);
+    }
+
+    public List<BulkOrderResult> createAll(final List<Order> orders, final int chunkSize) {
+        final List<BulkOrderResult> results = new ArrayList<>(orders.size());
+        for (int offset = 0; offset < orders.size(); offset += chunkSize) {
+            final List<Order> chunk = orders.subList(offset, Math.min(offset + chunkSize, orders.size()));
+            results.addAll(createChunk(offset, chunk));
+        }
+        return results;
+    }
+
+    public List<BulkOrderStatusResult> changeOrderStatuses(final OrderStatusChange change) {
+        final OrderStatus orderStatus = OrderStatus.valueOf(change.getOrderStatus());
+        final List<Long> orderIds = nullToEmpty(change.getOrderIds());
+        final List<Long> orderTableIds = nullToEmpty(change.getOrderTableIds());
+
+        if (orderIds.isEmpty() && orderTableIds.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+
+        if (orderIds.size() > MAX_ORDER_IDS || orderTableIds.size() > MAX_ORDER_TABLE_IDS) {
+            throw new IllegalArgumentException();
+        }
+
+        return transactionTemplate.execute(status -> changeOrderStatusesInTransaction(orderStatus, orderIds, orderTableIds));
+    }
+
+    private List<BulkOrderStatusResult> changeOrderStatusesInTransaction(
+            final OrderStatus orderStatus,
+            final List<Long> orderIds,
+            final List<Long> orderTableIds
+    ) {
+        final List<String> previousOrderStatuses = orderStatus.getPreviousStatuses()
+                .stream()
+                .map(OrderStatus::name)
+                .collect(Collectors.toList());
+
+        final Map<Long, Order> ordersById = new LinkedHashMap<>();
+        for (final Long orderId : orderIds) {
+            ordersById.put(orderId, null);
+        }
+        for (final Order order : orderDao.findAllByIdInForUpdate(orderIds)) {
+            ordersById.put(order.getId(), order);
+        }
+        final List<Order> orderTableOrders = orderDao.findAllByOrderTableIdInAndOrderStatusInForUpdate(
+                orderTableIds, previousOrderStatuses, MAX_ORDER_TABLE_ORDERS + 1
+        );
+        if (orderTableOrders.size() > MAX_ORDER_TABLE_ORDERS) {
+            throw new IllegalArgumentException();
+        }
+        for (final Order order : orderTableOrders) {
+            ordersById.put(order.getId(), order);
+        }
+        final List<Order> changeableOrders = ordersById.values()
+                .stream()
+                .filter(Objects::nonNull)
+                .filter(order -> previousOrderStatuses.contains(order.getOrderStatus()))
+                .collect(Collectors.toList());
+        final List<Long> changeableOrderIds = changeableOrders.stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+
+        orderDao.updateOrderStatuses(changeableOrderIds, previousOrderStatuses, orderStatus.name());
+
+        if (orderStatus == OrderStatus.COMPLETION && !changeableOrders.isEmpty()) {
+            final Map<Long, Long> activeOrderCounts = changeableOrders.stream()
+                    .collect(Collectors.groupingBy(Order::getOrderTableId, Collectors.counting()));
+            orderTableDao.decreaseActiveOrderCounts(activeOrderCounts);
+            salesRollupDao.addCompletedOrders(changeableOrderIds);
+        }
+
+        final Map<Long, List<OrderLineItem>> orderLineItems = orderLineItemDao.findAllByOrderIdIn(changeableOrderIds)
+                .stream()
+                .collect(Collectors.groupingBy(OrderLineItem::getOrderId));
+
+        final List<BulkOrderStatusResult> results = new ArrayList<>(ordersById.size());
+        for (final Map.Entry<Long, Order> entry : ordersById.entrySet()) {
+            final Order order = entry.getValue();
+            if (Objects.isNull(order) || !previousOrderStatuses.contains(order.getOrderStatus())) {
+                results.add(BulkOrderStatusResult.rejected(entry.getKey(), order));
+                continue;
+            }
+            order.setOrderStatus(orderStatus.name());
+            order.setOrderLineItems(orderLineItems.getOrDefault(order.getId(), new ArrayList<>()));
+            results.add(BulkOrderStatusResult.changed(order));
+            eventPublisher.publishEvent(OrderChangedEvent.statusChanged(order));
+        }
+        return results;
+    }
+
+    private List<BulkOrderResult> createChunk(final int offset, final List<Order> orders) {
+        try {
+            return transactionTemplate.execute(status -> createInTransaction(offset, orders));
+        } catch (final DataAccessException e) {
+            return createOneByOne(offset, orders);
+        }
+    }
+
+    private List<BulkOrderResult> createOneByOne(final int offset, final List<Order> orders) {
+        final Set<Long> menuIds = findMenuIds(orders);
+        final Map<Long, OrderTable> orderTables = findOrderTables(orders);
+
+        final List<BulkOrderResult> results = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            final Order order = orders.get(i);
+            final BulkOrderRejectionReason rejectionReason = validate(order, menuIds, orderTables);
+            if (Objects.nonNull(rejectionReason)) {
+                results.add(BulkOrderResult.rejected(offset + i, rejectionReason));
+                continue;
+            }
+            try {
+                results.add(BulkOrderResult.created(offset + i, orderService.create(copyOf(order))));
+            } catch (final IllegalArgumentException e) {
+                results.add(BulkOrderResult.rejected(offset + i, BulkOrderRejectionReason.INVALID_ORDER));
+            } catch (final DataAccessException e) {
+                results.add(BulkOrderResult.rejected(offset + i, BulkOrderRejectionReason.DATA_ACCESS_FAILURE));
+            }
+        }
+        return results;
+    }
+
+    private List<BulkOrderResult> createInTransaction(final int offset, final List<Order> orders) {
+        final Set<Long> menuIds = findMenuIds(orders);
+        final Map<Long, OrderTable> orderTables = findOrderTables(orders);
+
+        final BulkOrderResult[] results = new BulkOrderResult[orders.size()];
+        final List<Integer> acceptedIndexes = new ArrayList<>();
+        final List<Order> acceptedOrders = new ArrayList<>();
+        final LocalDateTime orderedTime = LocalDateTime.now();
+        for (int i = 0; i < orders.size(); i++) {
+            final BulkOrderRejectionReason rejectionReason = validate(orders.get(i), menuIds, orderTables);
+            if (Objects.nonNull(rejectionReason)) {
+                results[i] = BulkOrderResult.rejected(offset + i, rejectionReason);
+                continue;
+            }
+            final Order order = copyOf(orders.get(i));
+            order.setId(null);
+            order.setOrderStatus(OrderStatus.COOKING.name());
+            order.setOrderedTime(orderedTime);
+            acceptedIndexes.add(i);
+            acceptedOrders.add(order);
+        }
+
+        final List<Order> savedOrders = orderDao.saveAll(acceptedOrders);
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        final Map<Long, Long> activeOrderCounts = new HashMap<>();
+        for (int i = 0; i < savedOrders.size(); i++) {
+            final Order savedOrder = savedOrders.get(i);
+            for (final OrderLineItem orderLineItem : acceptedOrders.get(i).getOrderLineItems()) {
+                orderLineItem.setOrderId(savedOrder.getId());
+                orderLineItems.add(orderLineItem);
+            }
+            activeOrderCounts.merge(savedOrder.getOrderTableId(), 1L, Long::sum);
+        }
+
+        final Map<Long, List<OrderLineItem>> savedOrderLineItems = orderLineItemDao.saveAll(orderLineItems)
+                .stream()
+                .collect(Collectors.groupingBy(OrderLineItem::getOrderId));
+        orderTableDao.increaseActiveOrderCounts(activeOrderCounts);
+
+        for (int i = 0; i < savedOrders.size(); i++) {
+            final Order savedOrder = savedOrders.get(i);
+            savedOrder.setOrderLineItems(savedOrderLineItems.get(savedOrder.getId()));
+            final int index = acceptedIndexes.get(i);
+            results[index] = BulkOrderResult.created(offset + index, savedOrder);
+            eventPublisher.publishEvent(OrderChangedEvent.created(savedOrder));
+        }
+        return Arrays.asList(results);
+    }
+
+    private Set<Long> findMenuIds(final List<Order> orders) {
+        final List<Long> menuIds = orders.stream()
+                .map(Order::getOrderLineItems)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(OrderLineItem::getMenuId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        return menuDao.findAllByIdIn(menuIds)
+                .stream()
+                .map(Menu::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private Map<Long, OrderTable> findOrderTables(final List<Order> orders) {
+        final List<Long> orderTableIds = orders.stream()
+                .map(Order::getOrderTableId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (orderTableIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return orderTableDao.findAllByIdIn(orderTableIds)
+                .stream()
+                .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+    }
+
+    private BulkOrderRejectionReason validate(
+            final Order order,
+            final Set<Long> menuIds,
+            final Map<Long, OrderTable> orderTables
+    ) {
+        final List<OrderLineItem> orderLineItems = order.getOrderLineItems();
+
+        if (CollectionUtils.isEmpty(orderLineItems)) {
+            return BulkOrderRejectionReason.EMPTY_ORDER_LINE_ITEMS;
+        }
+
+        final Set<Long> orderMenuIds = orderLineItems.stream()
+                .map(OrderLineItem::getMenuId)
+                .collect(Collectors.toSet());
+
+        if (orderMenuIds.size() != orderLineItems.size()) {
+            return BulkOrderRejectionReason.DUPLICATE_MENU;
+        }
+
+        if (!menuIds.containsAll(orderMenuIds)) {
+            return BulkOrderRejectionReason.UNKNOWN_MENU;
+        }
+
+        final OrderTable orderTable = orderTables.get(order.getOrderTableId());
+
+        if (Objects.isNull(orderTable)) {
+            return BulkOrderRejectionReason.UNKNOWN_ORDER_TABLE;
+        }
+
+        if (orderTable.isEmpty()) {
+            return BulkOrderRejectionReason.EMPTY_ORDER_TABLE;
+        }
+
+        return null;
+    }
+
+    private static Order copyOf(final Order order) {
+        final List<OrderLineItem> orderLineItems = new ArrayList<>(order.getOrderLineItems().size());
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            orderLineItems.add(copyOf(orderLineItem));
+        }
+        final Order copy = new Order();
+        copy.setId(order.getId());
+        copy.setOrderTableId(order.getOrderTableId());
+        copy.setOrderStatus(order.getOrderStatus());
+        copy.setOrderedTime(order.getOrderedTime());
+        copy.setOrderLineItems(orderLineItems);
+        return copy;
+    }
+
+    private static OrderLineItem copyOf(final OrderLineItem orderLineItem) {
+        final OrderLineItem copy = new OrderLineItem();
+        copy.setSeq(orderLineItem.getSeq());
+        copy.setOrderId(orderLineItem.getOrderId());
+        copy.setMenuId(orderLineItem.getMenuId());
+        copy.setQuantity(orderLineItem.getQuantity());
+        return copy;
+    }
+
+    private List<Long> nullToEmpty(final List<Long> ids) {
+        if (Objects.isNull(ids)) {
+            return Collections.emptyList();
+        }
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
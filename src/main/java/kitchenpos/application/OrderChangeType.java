@@ -0,0 +1,5 @@
+package kitchenpos.application;
+
+public enum OrderChangeType {
+    CREATED, STATUS_CHANGED
+}
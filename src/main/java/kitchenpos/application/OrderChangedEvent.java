@@ -0,0 +1,48 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+public class OrderChangedEvent {
+    private final OrderChangeType type;
+    private final Long orderId;
+    private final Long orderTableId;
+    private final String orderStatus;
+
+    private OrderChangedEvent(
+            final OrderChangeType type,
+            final Long orderId,
+            final Long orderTableId,
+            final String orderStatus
+    ) {
+        this.type = type;
+        this.orderId = orderId;
+        this.orderTableId = orderTableId;
+        this.orderStatus = orderStatus;
+    }
+
+    public static OrderChangedEvent created(final Order order) {
+        return new OrderChangedEvent(OrderChangeType.CREATED, order.getId(), order.getOrderTableId(), order.getOrderStatus());
+    }
+
+    public static OrderChangedEvent statusChanged(final Order order) {
+        return new OrderChangedEvent(
+                OrderChangeType.STATUS_CHANGED, order.getId(), order.getOrderTableId(), order.getOrderStatus()
+        );
+    }
+
+    public OrderChangeType getType() {
+        return type;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+}
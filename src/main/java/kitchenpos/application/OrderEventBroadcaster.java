@@ -0,0 +1,169 @@
+package kitchenpos.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class OrderEventBroadcaster {
+    private static final String RESET_EVENT_NAME = "RESET";
+    private static final int DISPATCHER_THREAD_COUNT = 4;
+    private static final long EVENT_IDS_PER_EPOCH_MILLI = 1_000_000L;
+
+    private final int historySize;
+    private final int subscriberBufferSize;
+    private final long subscriberTimeoutMillis;
+    private final Deque<SequencedEvent> history = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+    private final ExecutorService dispatcher = Executors.newFixedThreadPool(DISPATCHER_THREAD_COUNT, runnable -> {
+        final Thread thread = new Thread(runnable, "order-event-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long lastEventId;
+
+    public OrderEventBroadcaster(
+            @Value("${kitchenpos.order.events.history-size:1000}") final int historySize,
+            @Value("${kitchenpos.order.events.subscriber-buffer-size:256}") final int subscriberBufferSize,
+            @Value("${kitchenpos.order.events.subscriber-timeout:30m}") final Duration subscriberTimeout
+    ) {
+        this.historySize = historySize;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.subscriberTimeoutMillis = subscriberTimeout.toMillis();
+        this.lastEventId = System.currentTimeMillis() * EVENT_IDS_PER_EPOCH_MILLI;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(final OrderChangedEvent event) {
+        final List<Subscriber> receivers = new ArrayList<>();
+        final List<Subscriber> evicted = new ArrayList<>();
+        synchronized (history) {
+            final SequencedEvent sequencedEvent = new SequencedEvent(++lastEventId, event.getType().name(), event);
+            history.addLast(sequencedEvent);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            for (final Subscriber subscriber : subscribers) {
+                if (subscriber.events.offer(sequencedEvent)) {
+                    receivers.add(subscriber);
+                    continue;
+                }
+                unsubscribe(subscriber);
+                evicted.add(subscriber);
+            }
+        }
+        receivers.forEach(this::schedule);
+        evicted.forEach(this::evict);
+    }
+
+    public long getSubscriberTimeoutMillis() {
+        return subscriberTimeoutMillis;
+    }
+
+    public Runnable subscribe(final Long lastSeenEventId, final OrderEventSink sink) {
+        final Subscriber subscriber = new Subscriber(sink, new ArrayBlockingQueue<>(subscriberBufferSize));
+
+        synchronized (history) {
+            if (Objects.nonNull(lastSeenEventId)) {
+                replay(subscriber, lastSeenEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return () -> unsubscribe(subscriber);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.sink.complete());
+        subscribers.clear();
+    }
+
+    private void replay(final Subscriber subscriber, final long lastSeenEventId) {
+        final long oldestEventId = history.isEmpty() ? lastEventId + 1 : history.peekFirst().id;
+        final List<SequencedEvent> missedEvents = new ArrayList<>();
+        for (final SequencedEvent event : history) {
+            if (event.id > lastSeenEventId) {
+                missedEvents.add(event);
+            }
+        }
+        if (lastSeenEventId + 1 < oldestEventId || lastSeenEventId > lastEventId
+                || missedEvents.size() > subscriberBufferSize) {
+            subscriber.events.offer(new SequencedEvent(lastEventId, RESET_EVENT_NAME, ""));
+            return;
+        }
+        subscriber.events.addAll(missedEvents);
+    }
+
+    private void unsubscribe(final Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    private void evict(final Subscriber subscriber) {
+        subscriber.events.clear();
+        dispatcher.execute(subscriber.sink::complete);
+    }
+
+    private void schedule(final Subscriber subscriber) {
+        if (!subscriber.events.isEmpty() && subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> dispatch(subscriber));
+        }
+    }
+
+    private void dispatch(final Subscriber subscriber) {
+        try {
+            SequencedEvent event;
+            while (Objects.nonNull(event = subscriber.events.poll())) {
+                subscriber.sink.send(event.id, event.name, event.data);
+            }
+        } catch (final IOException | IllegalStateException e) {
+            unsubscribe(subscriber);
+            subscriber.events.clear();
+            subscriber.sink.completeWithError(e);
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        schedule(subscriber);
+    }
+
+    private static class SequencedEvent {
+        private final long id;
+        private final String name;
+        private final Object data;
+
+        private SequencedEvent(final long id, final String name, final Object data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+    }
+
+    private static class Subscriber {
+        private final OrderEventSink sink;
+        private final BlockingQueue<SequencedEvent> events;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(final OrderEventSink sink, final BlockingQueue<SequencedEvent> events) {
+            this.sink = sink;
+            this.events = events;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package kitchenpos.application;
+
+import java.io.IOException;
+
+public interface OrderEventSink {
+    void send(long id, String name, Object data) throws IOException;
+
+    void complete();
+
+    void completeWithError(Throwable throwable);
+}
@@ -0,0 +1,187 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderIngestionQueue {
+    private static final Logger log = LoggerFactory.getLogger(OrderIngestionQueue.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final OrderBulkService orderBulkService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxWaitNanos;
+    private final int ticketRetention;
+    private final BlockingQueue<PendingOrder> pendingOrders;
+    private final Map<Long, OrderTicket> tickets = new ConcurrentHashMap<>();
+    private final Queue<Long> ticketIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong ticketSequence = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public OrderIngestionQueue(
+            final OrderBulkService orderBulkService,
+            @Value("${kitchenpos.order.ingestion.enabled:false}") final boolean enabled,
+            @Value("${kitchenpos.order.ingestion.capacity:10000}") final int capacity,
+            @Value("${kitchenpos.order.ingestion.batch-size:100}") final int batchSize,
+            @Value("${kitchenpos.order.ingestion.max-wait:20ms}") final Duration maxWait,
+            @Value("${kitchenpos.order.ingestion.ticket-retention:100000}") final int ticketRetention
+    ) {
+        this.orderBulkService = orderBulkService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.ticketRetention = ticketRetention;
+        this.pendingOrders = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drain, "order-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (Objects.isNull(writer)) {
+            return;
+        }
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<OrderTicket> submit(final Order order) {
+        if (CollectionUtils.isEmpty(order.getOrderLineItems()) || Objects.isNull(order.getOrderTableId())) {
+            throw new IllegalArgumentException();
+        }
+
+        final OrderTicket ticket = new OrderTicket(ticketSequence.incrementAndGet());
+        tickets.put(ticket.getId(), ticket);
+        if (!pendingOrders.offer(new PendingOrder(ticket, order))) {
+            tickets.remove(ticket.getId());
+            return Optional.empty();
+        }
+        retain(ticket.getId());
+        return Optional.of(ticket);
+    }
+
+    public Optional<OrderTicket> findTicket(final Long ticketId) {
+        return Optional.ofNullable(tickets.get(ticketId));
+    }
+
+    private void retain(final Long ticketId) {
+        ticketIds.add(ticketId);
+        while (tickets.size() > ticketRetention) {
+            final Long oldestTicketId = ticketIds.poll();
+            if (Objects.isNull(oldestTicketId)) {
+                return;
+            }
+            tickets.remove(oldestTicketId);
+        }
+    }
+
+    private void drain() {
+        final List<PendingOrder> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                collect(batch);
+            } catch (final InterruptedException e) {
+                break;
+            }
+            commit(batch);
+            batch.clear();
+        }
+        final boolean interrupted = Thread.interrupted();
+        pendingOrders.drainTo(batch);
+        for (int offset = 0; offset < batch.size(); offset += batchSize) {
+            commit(batch.subList(offset, Math.min(offset + batchSize, batch.size())));
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void collect(final List<PendingOrder> batch) throws InterruptedException {
+        final PendingOrder first = pendingOrders.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (Objects.isNull(first)) {
+            return;
+        }
+        batch.add(first);
+        final long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < batchSize) {
+            if (pendingOrders.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            final long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return;
+            }
+            final PendingOrder next = pendingOrders.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (Objects.isNull(next)) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(final List<PendingOrder> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        final List<Order> orders = batch.stream()
+                .map(pendingOrder -> pendingOrder.order)
+                .collect(Collectors.toList());
+        try {
+            final List<BulkOrderResult> results = orderBulkService.createAll(orders, batchSize);
+            for (final BulkOrderResult result : results) {
+                batch.get(result.getIndex()).ticket.complete(result);
+            }
+        } catch (final RuntimeException e) {
+            log.error("failed to commit {} queued orders", batch.size(), e);
+            batch.forEach(pendingOrder -> pendingOrder.ticket.reject());
+        }
+    }
+
+    private static class PendingOrder {
+        private final OrderTicket ticket;
+        private final Order order;
+
+        private PendingOrder(final OrderTicket ticket, final Order order) {
+            this.ticket = ticket;
+            this.order = order;
+        }
+    }
+}
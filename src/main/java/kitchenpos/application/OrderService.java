@@ -3,19 +3,22 @@ package kitchenpos.application;
 import kitchenpos.dao.MenuDao;
 import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.dao.OrderSearchCondition;
 import kitchenpos.dao.OrderTableDao;
+import kitchenpos.dao.SalesRollupDao;
 import kitchenpos.domain.Order;
 import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,17 +27,23 @@ public class OrderService {
     private final OrderDao orderDao;
     private final OrderLineItemDao orderLineItemDao;
     private final OrderTableDao orderTableDao;
+    private final SalesRollupDao salesRollupDao;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OrderService(
             final MenuDao menuDao,
             final OrderDao orderDao,
             final OrderLineItemDao orderLineItemDao,
-            final OrderTableDao orderTableDao
+            final OrderTableDao orderTableDao,
+            final SalesRollupDao salesRollupDao,
+            final ApplicationEventPublisher eventPublisher
     ) {
         this.menuDao = menuDao;
         this.orderDao = orderDao;
         this.orderLineItemDao = orderLineItemDao;
         this.orderTableDao = orderTableDao;
+        this.salesRollupDao = salesRollupDao;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -67,43 +76,55 @@ public class OrderService {
         order.setOrderedTime(LocalDateTime.now());
 
         final Order savedOrder = orderDao.save(order);
+        orderTableDao.increaseActiveOrderCount(orderTable.getId(), 1);
 
         final Long orderId = savedOrder.getId();
-        final List<OrderLineItem> savedOrderLineItems = new ArrayList<>();
         for (final OrderLineItem orderLineItem : orderLineItems) {
             orderLineItem.setOrderId(orderId);
-            savedOrderLineItems.add(orderLineItemDao.save(orderLineItem));
         }
-        savedOrder.setOrderLineItems(savedOrderLineItems);
+        savedOrder.setOrderLineItems(orderLineItemDao.saveAll(orderLineItems));
+
+        eventPublisher.publishEvent(OrderChangedEvent.created(savedOrder));
 
         return savedOrder;
     }
 
-    public List<Order> list() {
-        final List<Order> orders = orderDao.findAll();
+    @Transactional(readOnly = true)
+    public List<Long> findIds(final OrderSearchCondition condition) {
+        return orderDao.findAllIds(condition);
+    }
 
-        for (final Order order : orders) {
-            order.setOrderLineItems(orderLineItemDao.findAllByOrderId(order.getId()));
-        }
+    @Transactional(readOnly = true)
+    public void list(final List<Long> orderIds, final boolean includeArchived, final Consumer<Order> consumer) {
+        orderDao.findAllWithOrderLineItemsByIdIn(orderIds, includeArchived, consumer);
+    }
 
-        return orders;
+    @Transactional(readOnly = true)
+    public void export(final Consumer<Order> consumer) {
+        orderDao.findAllWithOrderLineItems(consumer);
     }
 
     @Transactional
     public Order changeOrderStatus(final Long orderId, final Order order) {
-        final Order savedOrder = orderDao.findById(orderId)
-                .orElseThrow(IllegalArgumentException::new);
+        final OrderStatus orderStatus = OrderStatus.valueOf(order.getOrderStatus());
+        final List<String> previousOrderStatuses = orderStatus.getPreviousStatuses()
+                .stream()
+                .map(OrderStatus::name)
+                .collect(Collectors.toList());
 
-        if (Objects.equals(OrderStatus.COMPLETION.name(), savedOrder.getOrderStatus())) {
+        if (!orderDao.updateOrderStatus(orderId, previousOrderStatuses, orderStatus.name())) {
             throw new IllegalArgumentException();
         }
 
-        final OrderStatus orderStatus = OrderStatus.valueOf(order.getOrderStatus());
-        savedOrder.setOrderStatus(orderStatus.name());
+        final Order savedOrder = orderDao.findByIdWithOrderLineItems(orderId)
+                .orElseThrow(IllegalArgumentException::new);
 
-        orderDao.save(savedOrder);
+        if (orderStatus == OrderStatus.COMPLETION) {
+            orderTableDao.decreaseActiveOrderCount(savedOrder.getOrderTableId(), 1);
+            salesRollupDao.addCompletedOrders(Collections.singletonList(orderId));
+        }
 
-        savedOrder.setOrderLineItems(orderLineItemDao.findAllByOrderId(orderId));
+        eventPublisher.publishEvent(OrderChangedEvent.statusChanged(savedOrder));
 
         return savedOrder;
     }
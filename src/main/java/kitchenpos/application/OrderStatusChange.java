@@ -0,0 +1,33 @@
+package kitchenpos.application;
+
+import java.util.List;
+
+public class OrderStatusChange {
+    private String orderStatus;
+    private List<Long> orderIds;
+    private List<Long> orderTableIds;
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+
+    public void setOrderStatus(final String orderStatus) {
+        this.orderStatus = orderStatus;
+    }
+
+    public List<Long> getOrderIds() {
+        return orderIds;
+    }
+
+    public void setOrderIds(final List<Long> orderIds) {
+        this.orderIds = orderIds;
+    }
+
+    public List<Long> getOrderTableIds() {
+        return orderTableIds;
+    }
+
+    public void setOrderTableIds(final List<Long> orderTableIds) {
+        this.orderTableIds = orderTableIds;
+    }
+}
@@ -0,0 +1,36 @@
+package kitchenpos.application;
+
+public class OrderTicket {
+    private final Long id;
+    private volatile OrderTicketStatus status = OrderTicketStatus.PENDING;
+    private volatile Long orderId;
+
+    public OrderTicket(final Long id) {
+        this.id = id;
+    }
+
+    public void complete(final BulkOrderResult result) {
+        if (result.isCreated()) {
+            orderId = result.getOrder().getId();
+            status = OrderTicketStatus.CREATED;
+            return;
+        }
+        reject();
+    }
+
+    public void reject() {
+        status = OrderTicketStatus.REJECTED;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OrderTicketStatus getStatus() {
+        return status;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+}
@@ -0,0 +1,5 @@
+package kitchenpos.application;
+
+public enum OrderTicketStatus {
+    PENDING, CREATED, REJECTED
+}
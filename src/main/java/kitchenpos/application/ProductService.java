@@ -1,34 +1,39 @@
 package kitchenpos.application;
 
 import kitchenpos.dao.ProductDao;
+import kitchenpos.domain.Money;
 import kitchenpos.domain.Product;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Objects;
 
 @Service
 public class ProductService {
     private final ProductDao productDao;
+    private final CatalogVersions catalogVersions;
+    private final SingleFlight<String, List<Product>> listFlight = new SingleFlight<>();
 
-    public ProductService(final ProductDao productDao) {
+    public ProductService(final ProductDao productDao, final CatalogVersions catalogVersions) {
         this.productDao = productDao;
+        this.catalogVersions = catalogVersions;
     }
 
     @Transactional
     public Product create(final Product product) {
-        final BigDecimal price = product.getPrice();
+        final Money price = product.getPrice();
 
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
 
-        return productDao.save(product);
+        final Product savedProduct = productDao.save(product);
+        catalogVersions.bump(CatalogType.PRODUCT);
+        return savedProduct;
     }
 
     public List<Product> list() {
-        return productDao.findAll();
+        return listFlight.execute(catalogVersions.getETag(CatalogType.PRODUCT), productDao::findAll);
     }
 }
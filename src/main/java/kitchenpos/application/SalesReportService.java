@@ -0,0 +1,39 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.SalesRollupDao;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class SalesReportService {
+    private final SalesRollupDao salesRollupDao;
+
+    public SalesReportService(final SalesRollupDao salesRollupDao) {
+        this.salesRollupDao = salesRollupDao;
+    }
+
+    @Transactional(readOnly = true)
+    public List<MenuSales> listMenuSales(final LocalDateTime from, final LocalDateTime to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || !from.isBefore(to)) {
+            throw new IllegalArgumentException();
+        }
+
+        return salesRollupDao.findAllMenuSales(from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MenuGroupSales> listMenuGroupSales(final LocalDate from, final LocalDate to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || !from.isBefore(to)) {
+            throw new IllegalArgumentException();
+        }
+
+        return salesRollupDao.findAllMenuGroupSales(from, to);
+    }
+}
@@ -0,0 +1,106 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.BillDao;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTableBill;
+import kitchenpos.domain.TableGroupBill;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Service
+public class TableGroupBillService {
+    private static final List<String> ACTIVE_ORDER_STATUSES =
+            Arrays.asList(OrderStatus.COOKING.name(), OrderStatus.MEAL.name());
+
+    private final BillDao billDao;
+    private final Map<Long, CachedBill> bills = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TableGroupBillService(final BillDao billDao) {
+        this.billDao = billDao;
+    }
+
+    public TableGroupBill getBill(final Long tableGroupId) {
+        final CachedBill cached = bills.get(tableGroupId);
+        if (cached != null) {
+            return cached.bill;
+        }
+
+        final long loadedInvalidations = invalidations.get();
+        final CachedBill loaded = load(tableGroupId);
+        bills.put(tableGroupId, loaded);
+        if (invalidations.get() != loadedInvalidations) {
+            bills.remove(tableGroupId, loaded);
+        }
+        return loaded.bill;
+    }
+
+    public void invalidate(final Long tableGroupId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(tableGroupId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(tableGroupId);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(final OrderChangedEvent event) {
+        invalidations.incrementAndGet();
+        bills.values().removeIf(cached -> cached.orderTableIds.contains(event.getOrderTableId()));
+    }
+
+    private void evict(final Long tableGroupId) {
+        invalidations.incrementAndGet();
+        bills.remove(tableGroupId);
+    }
+
+    private CachedBill load(final Long tableGroupId) {
+        final List<OrderTableBill> orderTableBills = billDao.findAllByTableGroupId(tableGroupId, ACTIVE_ORDER_STATUSES);
+
+        if (orderTableBills.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+
+        Money totalPrice = Money.ZERO;
+        for (final OrderTableBill orderTableBill : orderTableBills) {
+            totalPrice = totalPrice.plus(orderTableBill.getPrice());
+        }
+
+        final TableGroupBill bill = new TableGroupBill();
+        bill.setTableGroupId(tableGroupId);
+        bill.setOrderTableBills(Collections.unmodifiableList(orderTableBills));
+        bill.setTotalPrice(totalPrice);
+
+        final Set<Long> orderTableIds = orderTableBills.stream()
+                .map(OrderTableBill::getOrderTableId)
+                .collect(Collectors.toSet());
+        return new CachedBill(bill, orderTableIds);
+    }
+
+    private static class CachedBill {
+        private final TableGroupBill bill;
+        private final Set<Long> orderTableIds;
+
+        private CachedBill(final TableGroupBill bill, final Set<Long> orderTableIds) {
+            this.bill = bill;
+            this.orderTableIds = orderTableIds;
+        }
+    }
+}
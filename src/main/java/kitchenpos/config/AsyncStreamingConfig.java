@@ -0,0 +1,45 @@
+package kitchenpos.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class AsyncStreamingConfig implements WebMvcConfigurer {
+    private final int poolSize;
+    private final int queueCapacity;
+    private final Duration timeout;
+
+    public AsyncStreamingConfig(
+            @Value("${kitchenpos.web.streaming.pool-size:8}") final int poolSize,
+            @Value("${kitchenpos.web.streaming.queue-capacity:32}") final int queueCapacity,
+            @Value("${kitchenpos.web.streaming.timeout:2m}") final Duration timeout
+    ) {
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor streamingTaskExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("streaming-response-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(new ClientWriteTimestampTaskDecorator());
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingTaskExecutor());
+        configurer.setDefaultTimeout(timeout.toMillis());
+    }
+}
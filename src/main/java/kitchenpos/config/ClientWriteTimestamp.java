@@ -0,0 +1,41 @@
+package kitchenpos.config;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+public final class ClientWriteTimestamp {
+    private static final ThreadLocal<ClientWriteTimestamp> CURRENT = new ThreadLocal<>();
+
+    private Long lastWriteMillis;
+    private final LongConsumer writeListener;
+
+    private ClientWriteTimestamp(final Long lastWriteMillis, final LongConsumer writeListener) {
+        this.lastWriteMillis = lastWriteMillis;
+        this.writeListener = writeListener;
+    }
+
+    public static void open(final Long lastWriteMillis, final LongConsumer writeListener) {
+        CURRENT.set(new ClientWriteTimestamp(lastWriteMillis, writeListener));
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    public static Long get() {
+        final ClientWriteTimestamp current = CURRENT.get();
+        if (Objects.isNull(current)) {
+            return null;
+        }
+        return current.lastWriteMillis;
+    }
+
+    public static void recordWrite(final long writtenAtMillis) {
+        final ClientWriteTimestamp current = CURRENT.get();
+        if (Objects.isNull(current)) {
+            return;
+        }
+        current.lastWriteMillis = writtenAtMillis;
+        current.writeListener.accept(writtenAtMillis);
+    }
+}
@@ -0,0 +1,136 @@
+package kitchenpos.config;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Objects;
+
+public class ClientWriteTimestampFilter extends OncePerRequestFilter {
+    public static final String COOKIE_NAME = "kitchenpos-last-write";
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+    private static final int GENERATED_SECRET_LENGTH = 32;
+    private static final char SIGNATURE_SEPARATOR = '.';
+
+    private final long lagToleranceMillis;
+    private final int cookieMaxAgeSeconds;
+    private final SecretKeySpec signingKey;
+    private final Clock clock;
+
+    public ClientWriteTimestampFilter(final Duration lagTolerance) {
+        this(lagTolerance, generateSecret(), Clock.systemUTC());
+    }
+
+    public ClientWriteTimestampFilter(final Duration lagTolerance, final byte[] secret, final Clock clock) {
+        if (secret.length == 0) {
+            throw new IllegalArgumentException();
+        }
+        this.lagToleranceMillis = lagTolerance.toMillis();
+        this.cookieMaxAgeSeconds = (int) Math.max(1L, lagTolerance.plusMillis(999L).getSeconds());
+        this.signingKey = new SecretKeySpec(secret, SIGNATURE_ALGORITHM);
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        ClientWriteTimestamp.open(lastWriteMillis(request), writtenAtMillis -> {
+            if (response.isCommitted()) {
+                return;
+            }
+            final Cookie cookie = new Cookie(COOKIE_NAME, token(writtenAtMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge(cookieMaxAgeSeconds);
+            response.addCookie(cookie);
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ClientWriteTimestamp.close();
+        }
+    }
+
+    String token(final long writtenAtMillis) {
+        final String value = String.valueOf(writtenAtMillis);
+        return value + SIGNATURE_SEPARATOR + sign(value);
+    }
+
+    private Long lastWriteMillis(final HttpServletRequest request) {
+        final Cookie[] cookies = request.getCookies();
+        if (Objects.isNull(cookies)) {
+            return null;
+        }
+        final long now = clock.millis();
+        Long lastWriteMillis = null;
+        for (final Cookie cookie : cookies) {
+            final Long cookieMillis = COOKIE_NAME.equals(cookie.getName()) ? verify(cookie.getValue()) : null;
+            if (Objects.isNull(cookieMillis)) {
+                continue;
+            }
+            final long clampedMillis = Math.min(cookieMillis, now);
+            if (now - clampedMillis >= lagToleranceMillis) {
+                continue;
+            }
+            if (Objects.isNull(lastWriteMillis) || clampedMillis > lastWriteMillis) {
+                lastWriteMillis = clampedMillis;
+            }
+        }
+        return lastWriteMillis;
+    }
+
+    private Long verify(final String token) {
+        if (Objects.isNull(token)) {
+            return null;
+        }
+        final int separator = token.lastIndexOf(SIGNATURE_SEPARATOR);
+        if (separator <= 0) {
+            return null;
+        }
+        final String value = token.substring(0, separator);
+        final byte[] expected = sign(value).getBytes(StandardCharsets.US_ASCII);
+        final byte[] actual = token.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String sign(final String value) {
+        try {
+            final Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(signingKey);
+            final byte[] signature = mac.doFinal(value.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] generateSecret() {
+        final byte[] secret = new byte[GENERATED_SECRET_LENGTH];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
@@ -0,0 +1,24 @@
+package kitchenpos.config;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Objects;
+
+public class ClientWriteTimestampTaskDecorator implements TaskDecorator {
+    @Override
+    public Runnable decorate(final Runnable runnable) {
+        final Long lastWriteMillis = ClientWriteTimestamp.get();
+        if (Objects.isNull(lastWriteMillis)) {
+            return runnable;
+        }
+        return () -> {
+            ClientWriteTimestamp.open(lastWriteMillis, writtenAtMillis -> {
+            });
+            try {
+                runnable.run();
+            } finally {
+                ClientWriteTimestamp.close();
+            }
+        };
+    }
+}
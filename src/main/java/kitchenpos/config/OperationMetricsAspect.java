@@ -0,0 +1,76 @@
+package kitchenpos.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+public class OperationMetricsAspect {
+    private static final String SERVICE_METRIC_NAME = "kitchenpos.service";
+    private static final String DAO_METRIC_NAME = "kitchenpos.dao";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, OperationTimers> operationTimers = new ConcurrentHashMap<>();
+
+    public OperationMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * kitchenpos.application.*Service.*(..))")
+    public Object timeService(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_METRIC_NAME, joinPoint);
+    }
+
+    @Around("execution(public * kitchenpos.dao.JdbcTemplate*Dao.*(..))")
+    public Object timeDao(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(DAO_METRIC_NAME, joinPoint);
+    }
+
+    private Object time(final String metricName, final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        final OperationTimers timers = operationTimers.computeIfAbsent(
+                method, key -> new OperationTimers(metricName, operationName(key))
+        );
+        final long startTime = System.nanoTime();
+        try {
+            final Object result = joinPoint.proceed();
+            timers.success.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (final Throwable e) {
+            timers.failure.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private String operationName(final Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    private class OperationTimers {
+        private final Timer success;
+        private final Timer failure;
+
+        private OperationTimers(final String metricName, final String operationName) {
+            this.success = register(metricName, operationName, "success");
+            this.failure = register(metricName, operationName, "failure");
+        }
+
+        private Timer register(final String metricName, final String operationName, final String outcome) {
+            return Timer.builder(metricName)
+                    .tag("operation", operationName)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package kitchenpos.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+@ConditionalOnProperty(prefix = "kitchenpos.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            final DataSourceProperties properties,
+            @Value("${kitchenpos.datasource.replica.url}") final String replicaUrl,
+            @Value("${kitchenpos.datasource.replica.username:${spring.datasource.username:sa}}") final String replicaUsername,
+            @Value("${kitchenpos.datasource.replica.password:${spring.datasource.password:}}") final String replicaPassword,
+            @Value("${kitchenpos.datasource.replica.lag-tolerance:1s}") final Duration lagTolerance,
+            @Value("${kitchenpos.datasource.replica.migrate:false}") final boolean migrateReplica
+    ) {
+        final DataSource primary = properties.initializeDataSourceBuilder()
+                .build();
+        final DataSource replica = DataSourceBuilder.create()
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        if (migrateReplica) {
+            Flyway.configure()
+                    .dataSource(replica)
+                    .load()
+                    .migrate();
+        }
+        final ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(primary, replica, lagTolerance, Clock.systemUTC());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ClientWriteTimestampFilter> clientWriteTimestampFilter(
+            @Value("${kitchenpos.datasource.replica.lag-tolerance:1s}") final Duration lagTolerance,
+            @Value("${kitchenpos.datasource.replica.write-token-secret:}") final String writeTokenSecret
+    ) {
+        ClientWriteTimestampFilter filter = new ClientWriteTimestampFilter(lagTolerance);
+        if (StringUtils.hasText(writeTokenSecret)) {
+            final byte[] secret = writeTokenSecret.getBytes(StandardCharsets.UTF_8);
+            filter = new ClientWriteTimestampFilter(lagTolerance, secret, Clock.systemUTC());
+        }
+        final FilterRegistrationBean<ClientWriteTimestampFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,71 @@
+package kitchenpos.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final Duration lagTolerance;
+    private final Clock clock;
+
+    public ReplicationRoutingDataSource(
+            final DataSource primary,
+            final DataSource replica,
+            final Duration lagTolerance,
+            final Clock clock
+    ) {
+        this.lagTolerance = lagTolerance;
+        this.clock = clock;
+        final Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        targetDataSources.put(REPLICA, replica);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            return PRIMARY;
+        }
+        if (isWithinLagTolerance()) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+
+    private void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ClientWriteTimestamp.recordWrite(clock.millis());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ClientWriteTimestamp.recordWrite(clock.millis());
+            }
+        });
+    }
+
+    private boolean isWithinLagTolerance() {
+        final Long writtenAt = ClientWriteTimestamp.get();
+        if (writtenAt == null) {
+            return false;
+        }
+        return clock.millis() - writtenAt < lagTolerance.toMillis();
+    }
+}
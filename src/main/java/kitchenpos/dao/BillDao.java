@@ -0,0 +1,9 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.OrderTableBill;
+
+import java.util.List;
+
+public interface BillDao {
+    List<OrderTableBill> findAllByTableGroupId(Long tableGroupId, List<String> orderStatuses);
+}
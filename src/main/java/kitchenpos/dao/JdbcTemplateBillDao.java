@@ -0,0 +1,46 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.Money;
+import kitchenpos.domain.OrderTableBill;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+@Repository
+public class JdbcTemplateBillDao implements BillDao {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTemplateBillDao(final DataSource dataSource) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<OrderTableBill> findAllByTableGroupId(final Long tableGroupId, final List<String> orderStatuses) {
+        final String sql = "SELECT t.id AS order_table_id, COUNT(DISTINCT o.id) AS order_count," +
+                " CAST(COALESCE(SUM(oli.quantity * m.price), 0) * 100 AS BIGINT) AS price_minor_units" +
+                " FROM order_table t" +
+                " LEFT JOIN orders o ON o.order_table_id = t.id AND o.order_status IN (:orderStatuses)" +
+                " LEFT JOIN order_line_item oli ON oli.order_id = o.id" +
+                " LEFT JOIN menu m ON m.id = oli.menu_id" +
+                " WHERE t.table_group_id = (:tableGroupId)" +
+                " GROUP BY t.id ORDER BY t.id";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("tableGroupId", tableGroupId)
+                .addValue("orderStatuses", orderStatuses);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    private OrderTableBill toEntity(final ResultSet resultSet) throws SQLException {
+        final OrderTableBill entity = new OrderTableBill();
+        entity.setOrderTableId(resultSet.getLong("order_table_id"));
+        entity.setOrderCount(resultSet.getLong("order_count"));
+        entity.setPrice(Money.ofMinorUnits(resultSet.getLong("price_minor_units")));
+        return entity;
+    }
+}
@@ -1,8 +1,8 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.Menu;
+import kitchenpos.domain.Money;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,9 +34,7 @@ public class JdbcTemplateMenuDao implements MenuDao {
 
     @Override
     public Menu save(final Menu entity) {
-        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-        final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return insert(entity);
     }
 
     @Override
@@ -49,10 +48,21 @@ public class JdbcTemplateMenuDao implements MenuDao {
 
     @Override
     public List<Menu> findAll() {
-        final String sql = "SELECT id, name, price, menu_group_id FROM menu ";
+        final String sql = "SELECT id, name, CAST(price * 100 AS BIGINT) AS price_minor_units, menu_group_id FROM menu ";
         return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public List<Menu> findAllByIdIn(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String sql = "SELECT id, name, CAST(price * 100 AS BIGINT) AS price_minor_units, menu_group_id FROM menu WHERE id IN (:ids)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
     @Override
     public long countByIdIn(final List<Long> ids) {
         final String sql = "SELECT COUNT(*) FROM menu WHERE id IN (:ids)";
@@ -61,8 +71,22 @@ public class JdbcTemplateMenuDao implements MenuDao {
         return jdbcTemplate.queryForObject(sql, parameters, Long.class);
     }
 
+    private Menu insert(final Menu entity) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("name", entity.getName())
+                .addValue("price", entity.getPrice().toBigDecimal())
+                .addValue("menuGroupId", entity.getMenuGroupId());
+        final Number key = jdbcInsert.executeAndReturnKey(parameters);
+        final Menu savedEntity = new Menu();
+        savedEntity.setId(key.longValue());
+        savedEntity.setName(entity.getName());
+        savedEntity.setPrice(entity.getPrice());
+        savedEntity.setMenuGroupId(entity.getMenuGroupId());
+        return savedEntity;
+    }
+
     private Menu select(final Long id) {
-        final String sql = "SELECT id, name, price, menu_group_id FROM menu WHERE id = (:id)";
+        final String sql = "SELECT id, name, CAST(price * 100 AS BIGINT) AS price_minor_units, menu_group_id FROM menu WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("id", id);
         return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
@@ -72,7 +96,7 @@ public class JdbcTemplateMenuDao implements MenuDao {
         final Menu entity = new Menu();
         entity.setId(resultSet.getLong("id"));
         entity.setName(resultSet.getString("name"));
-        entity.setPrice(resultSet.getBigDecimal("price"));
+        entity.setPrice(Money.ofMinorUnits(resultSet.getLong("price_minor_units")));
         entity.setMenuGroupId(resultSet.getLong("menu_group_id"));
         return entity;
     }
@@ -2,7 +2,6 @@ package kitchenpos.dao;
 
 import kitchenpos.domain.MenuGroup;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -33,9 +32,7 @@ public class JdbcTemplateMenuGroupDao implements MenuGroupDao {
 
     @Override
     public MenuGroup save(final MenuGroup entity) {
-        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-        final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return insert(entity);
     }
 
     @Override
@@ -61,6 +58,16 @@ public class JdbcTemplateMenuGroupDao implements MenuGroupDao {
         return jdbcTemplate.queryForObject(sql, parameters, Boolean.class);
     }
 
+    private MenuGroup insert(final MenuGroup entity) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("name", entity.getName());
+        final Number key = jdbcInsert.executeAndReturnKey(parameters);
+        final MenuGroup savedEntity = new MenuGroup();
+        savedEntity.setId(key.longValue());
+        savedEntity.setName(entity.getName());
+        return savedEntity;
+    }
+
     private MenuGroup select(final Long id) {
         final String sql = "SELECT id, name FROM menu_group WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
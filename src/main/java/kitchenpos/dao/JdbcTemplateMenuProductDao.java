@@ -2,7 +2,7 @@ package kitchenpos.dao;
 
 import kitchenpos.domain.MenuProduct;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -10,8 +10,11 @@ import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,9 +36,27 @@ public class JdbcTemplateMenuProductDao implements MenuProductDao {
 
     @Override
     public MenuProduct save(final MenuProduct entity) {
-        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-        final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return insert(entity);
+    }
+
+    @Override
+    public List<MenuProduct> saveAll(final List<MenuProduct> entities) {
+        if (entities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String sql = "INSERT INTO menu_product (menu_id, product_id, quantity) VALUES (?, ?, ?)";
+        return jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<List<MenuProduct>>) connection -> {
+            try (final PreparedStatement statement = connection.prepareStatement(sql, new String[]{KEY_COLUMN_NAME})) {
+                for (final MenuProduct entity : entities) {
+                    statement.setLong(1, entity.getMenuId());
+                    statement.setLong(2, entity.getProductId());
+                    statement.setLong(3, entity.getQuantity());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                return toSavedEntities(entities, statement);
+            }
+        });
     }
 
     @Override
@@ -61,6 +82,20 @@ public class JdbcTemplateMenuProductDao implements MenuProductDao {
         return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    private MenuProduct insert(final MenuProduct entity) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("menuId", entity.getMenuId())
+                .addValue("productId", entity.getProductId())
+                .addValue("quantity", entity.getQuantity());
+        final Number key = jdbcInsert.executeAndReturnKey(parameters);
+        final MenuProduct savedEntity = new MenuProduct();
+        savedEntity.setSeq(key.longValue());
+        savedEntity.setMenuId(entity.getMenuId());
+        savedEntity.setProductId(entity.getProductId());
+        savedEntity.setQuantity(entity.getQuantity());
+        return savedEntity;
+    }
+
     private MenuProduct select(final Long id) {
         final String sql = "SELECT seq, menu_id, product_id, quantity FROM menu_product WHERE seq = (:seq)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -68,6 +103,27 @@ public class JdbcTemplateMenuProductDao implements MenuProductDao {
         return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    private List<MenuProduct> toSavedEntities(
+            final List<MenuProduct> entities,
+            final PreparedStatement statement
+    ) throws SQLException {
+        final List<MenuProduct> savedEntities = new ArrayList<>(entities.size());
+        try (final ResultSet generatedKeys = statement.getGeneratedKeys()) {
+            for (final MenuProduct entity : entities) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("generated key count does not match batch size");
+                }
+                final MenuProduct savedEntity = new MenuProduct();
+                savedEntity.setSeq(generatedKeys.getLong(1));
+                savedEntity.setMenuId(entity.getMenuId());
+                savedEntity.setProductId(entity.getProductId());
+                savedEntity.setQuantity(entity.getQuantity());
+                savedEntities.add(savedEntity);
+            }
+        }
+        return savedEntities;
+    }
+
     private MenuProduct toEntity(final ResultSet resultSet) throws SQLException {
         final MenuProduct entity = new MenuProduct();
         entity.setSeq(resultSet.getLong(KEY_COLUMN_NAME));
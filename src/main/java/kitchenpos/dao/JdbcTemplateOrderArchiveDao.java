@@ -0,0 +1,54 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.OrderStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class JdbcTemplateOrderArchiveDao implements OrderArchiveDao {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTemplateOrderArchiveDao(final DataSource dataSource) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<Long> findArchivableIds(final LocalDateTime orderedBefore, final long after, final int limit) {
+        final String sql = "SELECT id FROM orders WHERE order_status = (:orderStatus) AND id > (:after)" +
+                " AND ordered_time < (:orderedBefore) ORDER BY id LIMIT :limit";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatus", OrderStatus.COMPLETION.name())
+                .addValue("after", after)
+                .addValue("orderedBefore", orderedBefore)
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(sql, parameters, Long.class);
+    }
+
+    @Override
+    public int archive(final List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderIds", orderIds)
+                .addValue("orderStatus", OrderStatus.COMPLETION.name());
+        final int archivedCount = jdbcTemplate.update("INSERT INTO orders_archive" +
+                " (id, order_table_id, order_status, ordered_time)" +
+                " SELECT id, order_table_id, order_status, ordered_time FROM orders" +
+                " WHERE id IN (:orderIds) AND order_status = (:orderStatus)", parameters);
+        jdbcTemplate.update("INSERT INTO order_line_item_archive (seq, order_id, menu_id, quantity)" +
+                " SELECT oli.seq, oli.order_id, oli.menu_id, oli.quantity FROM order_line_item oli" +
+                " JOIN orders_archive oa ON oa.id = oli.order_id WHERE oli.order_id IN (:orderIds)", parameters);
+        jdbcTemplate.update("DELETE FROM order_line_item WHERE order_id IN" +
+                " (SELECT id FROM orders_archive WHERE id IN (:orderIds))", parameters);
+        jdbcTemplate.update("DELETE FROM orders WHERE id IN" +
+                " (SELECT id FROM orders_archive WHERE id IN (:orderIds))", parameters);
+        return archivedCount;
+    }
+}
@@ -1,8 +1,11 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -10,23 +13,35 @@ import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 public class JdbcTemplateOrderDao implements OrderDao {
     private static final String TABLE_NAME = "orders";
     private static final String KEY_COLUMN_NAME = "id";
+    private static final int STREAMING_FETCH_SIZE = 500;
+    private static final int ID_CHUNK_SIZE = 1000;
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate namedStreamingJdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
 
     public JdbcTemplateOrderDao(final DataSource dataSource) {
         jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        streamingJdbcTemplate.setFetchSize(STREAMING_FETCH_SIZE);
+        namedStreamingJdbcTemplate = new NamedParameterJdbcTemplate(streamingJdbcTemplate);
         jdbcInsert = new SimpleJdbcInsert(dataSource)
                 .withTableName(TABLE_NAME)
                 .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
@@ -36,14 +51,64 @@ public class JdbcTemplateOrderDao implements OrderDao {
     @Override
     public Order save(final Order entity) {
         if (Objects.isNull(entity.getId())) {
-            final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-            final Number key = jdbcInsert.executeAndReturnKey(parameters);
-            return select(key.longValue());
+            return insert(entity);
         }
         update(entity);
         return entity;
     }
 
+    @Override
+    public List<Order> saveAll(final List<Order> entities) {
+        if (entities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String sql = "INSERT INTO orders (order_table_id, order_status, ordered_time) VALUES (?, ?, ?)";
+        return jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<List<Order>>) connection -> {
+            try (final PreparedStatement statement = connection.prepareStatement(sql, new String[]{KEY_COLUMN_NAME})) {
+                for (final Order entity : entities) {
+                    statement.setLong(1, entity.getOrderTableId());
+                    statement.setString(2, entity.getOrderStatus());
+                    statement.setObject(3, entity.getOrderedTime().truncatedTo(ChronoUnit.MICROS));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                return toSavedEntities(entities, statement);
+            }
+        });
+    }
+
+    @Override
+    public boolean updateOrderStatus(final Long id, final List<String> previousOrderStatuses, final String orderStatus) {
+        if (previousOrderStatuses.isEmpty()) {
+            return false;
+        }
+        final String sql = "UPDATE orders SET order_status = (:orderStatus)" +
+                " WHERE id = (:id) AND order_status IN (:previousOrderStatuses)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatus", orderStatus)
+                .addValue("id", id)
+                .addValue("previousOrderStatuses", previousOrderStatuses);
+        return jdbcTemplate.update(sql, parameters) == 1;
+    }
+
+    @Override
+    public int updateOrderStatuses(final List<Long> ids, final List<String> previousOrderStatuses, final String orderStatus) {
+        if (ids.isEmpty() || previousOrderStatuses.isEmpty()) {
+            return 0;
+        }
+        final String sql = "UPDATE orders SET order_status = (:orderStatus)" +
+                " WHERE id IN (:ids) AND order_status IN (:previousOrderStatuses)";
+        int updatedCount = 0;
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            final SqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("orderStatus", orderStatus)
+                    .addValue("ids", ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())))
+                    .addValue("previousOrderStatuses", previousOrderStatuses);
+            updatedCount += jdbcTemplate.update(sql, parameters);
+        }
+        return updatedCount;
+    }
+
     @Override
     public Optional<Order> findById(final Long id) {
         try {
@@ -53,12 +118,127 @@ public class JdbcTemplateOrderDao implements OrderDao {
         }
     }
 
+    @Override
+    public Optional<Order> findByIdWithOrderLineItems(final Long id) {
+        final String sql = "SELECT o.id, o.order_table_id, o.order_status, o.ordered_time," +
+                " oli.seq, oli.menu_id, oli.quantity" +
+                " FROM orders o LEFT JOIN order_line_item oli ON oli.order_id = o.id WHERE o.id = (:id) ORDER BY oli.seq";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id);
+        final List<Order> orders = new ArrayList<>(1);
+        final OrderGroupingRowCallbackHandler rowCallbackHandler = new OrderGroupingRowCallbackHandler(orders::add);
+        jdbcTemplate.query(sql, parameters, rowCallbackHandler);
+        rowCallbackHandler.flush();
+        return orders.stream().findFirst();
+    }
+
     @Override
     public List<Order> findAll() {
         final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders";
         return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public List<Long> findAllIds(final OrderSearchCondition condition) {
+        final StringBuilder where = new StringBuilder(" WHERE id > (:after)");
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("after", condition.getAfter())
+                .addValue("limit", condition.getLimit());
+        if (Objects.nonNull(condition.getOrderStatus())) {
+            where.append(" AND order_status = (:orderStatus)");
+            parameters.addValue("orderStatus", condition.getOrderStatus());
+        }
+        if (Objects.nonNull(condition.getOrderTableId())) {
+            where.append(" AND order_table_id = (:orderTableId)");
+            parameters.addValue("orderTableId", condition.getOrderTableId());
+        }
+        if (Objects.nonNull(condition.getOrderedTimeFrom())) {
+            where.append(" AND ordered_time >= (:orderedTimeFrom)");
+            parameters.addValue("orderedTimeFrom", condition.getOrderedTimeFrom());
+        }
+        if (Objects.nonNull(condition.getOrderedTimeTo())) {
+            where.append(" AND ordered_time < (:orderedTimeTo)");
+            parameters.addValue("orderedTimeTo", condition.getOrderedTimeTo());
+        }
+        final String page = where + " ORDER BY id LIMIT :limit";
+        final String sql = condition.isIncludeArchived()
+                ? "SELECT id FROM ((SELECT id FROM orders" + page + ")" +
+                " UNION ALL (SELECT id FROM orders_archive" + page + ")) o ORDER BY id LIMIT :limit"
+                : "SELECT id FROM orders" + page;
+        return jdbcTemplate.queryForList(sql, parameters, Long.class);
+    }
+
+    @Override
+    public List<Order> findAllByIdInForUpdate(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders" +
+                " WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+        final List<Order> orders = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            final SqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("ids", ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())));
+            orders.addAll(jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet)));
+        }
+        return orders;
+    }
+
+    @Override
+    public List<Order> findAllByOrderTableIdInAndOrderStatusInForUpdate(
+            final List<Long> orderTableIds,
+            final List<String> orderStatuses,
+            final int limit
+    ) {
+        if (orderTableIds.isEmpty() || orderStatuses.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders" +
+                " WHERE order_table_id IN (:orderTableIds) AND order_status IN (:orderStatuses)" +
+                " ORDER BY id LIMIT :limit FOR UPDATE";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderTableIds", orderTableIds)
+                .addValue("orderStatuses", orderStatuses)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    @Override
+    public void findAllWithOrderLineItems(final Consumer<Order> consumer) {
+        final String sql = "SELECT o.id, o.order_table_id, o.order_status, o.ordered_time," +
+                " oli.seq, oli.menu_id, oli.quantity" +
+                " FROM orders o LEFT JOIN order_line_item oli ON oli.order_id = o.id ORDER BY o.id, oli.seq";
+        final OrderGroupingRowCallbackHandler rowCallbackHandler = new OrderGroupingRowCallbackHandler(consumer);
+        streamingJdbcTemplate.query(sql, rowCallbackHandler);
+        rowCallbackHandler.flush();
+    }
+
+    @Override
+    public void findAllWithOrderLineItemsByIdIn(
+            final List<Long> ids,
+            final boolean includeArchived,
+            final Consumer<Order> consumer
+    ) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        final String columns = "SELECT o.id, o.order_table_id, o.order_status, o.ordered_time," +
+                " oli.seq, oli.menu_id, oli.quantity";
+        final String live = columns +
+                " FROM orders o LEFT JOIN order_line_item oli ON oli.order_id = o.id WHERE o.id IN (:ids)";
+        final String sql = includeArchived
+                ? "SELECT id, order_table_id, order_status, ordered_time, seq, menu_id, quantity FROM" +
+                " ((" + live + ") UNION ALL (" + columns +
+                " FROM orders_archive o LEFT JOIN order_line_item_archive oli ON oli.order_id = o.id" +
+                " WHERE o.id IN (:ids))) x ORDER BY id, seq"
+                : live + " ORDER BY o.id, oli.seq";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        final OrderGroupingRowCallbackHandler rowCallbackHandler = new OrderGroupingRowCallbackHandler(consumer);
+        namedStreamingJdbcTemplate.query(sql, parameters, rowCallbackHandler);
+        rowCallbackHandler.flush();
+    }
+
     @Override
     public boolean existsByOrderTableIdAndOrderStatusIn(final Long orderTableId, final List<String> orderStatuses) {
         final String sql = "SELECT CASE WHEN COUNT(*) > 0 THEN TRUE ELSE FALSE END" +
@@ -79,6 +259,21 @@ public class JdbcTemplateOrderDao implements OrderDao {
         return jdbcTemplate.queryForObject(sql, parameters, Boolean.class);
     }
 
+    private Order insert(final Order entity) {
+        final LocalDateTime orderedTime = entity.getOrderedTime().truncatedTo(ChronoUnit.MICROS);
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderTableId", entity.getOrderTableId())
+                .addValue("orderStatus", entity.getOrderStatus())
+                .addValue("orderedTime", orderedTime);
+        final Number key = jdbcInsert.executeAndReturnKey(parameters);
+        final Order savedEntity = new Order();
+        savedEntity.setId(key.longValue());
+        savedEntity.setOrderTableId(entity.getOrderTableId());
+        savedEntity.setOrderStatus(entity.getOrderStatus());
+        savedEntity.setOrderedTime(orderedTime);
+        return savedEntity;
+    }
+
     private Order select(final Long id) {
         final String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -94,6 +289,24 @@ public class JdbcTemplateOrderDao implements OrderDao {
         jdbcTemplate.update(sql, parameters);
     }
 
+    private List<Order> toSavedEntities(final List<Order> entities, final PreparedStatement statement) throws SQLException {
+        final List<Order> savedEntities = new ArrayList<>(entities.size());
+        try (final ResultSet generatedKeys = statement.getGeneratedKeys()) {
+            for (final Order entity : entities) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("generated key count does not match batch size");
+                }
+                final Order savedEntity = new Order();
+                savedEntity.setId(generatedKeys.getLong(1));
+                savedEntity.setOrderTableId(entity.getOrderTableId());
+                savedEntity.setOrderStatus(entity.getOrderStatus());
+                savedEntity.setOrderedTime(entity.getOrderedTime().truncatedTo(ChronoUnit.MICROS));
+                savedEntities.add(savedEntity);
+            }
+        }
+        return savedEntities;
+    }
+
     private Order toEntity(final ResultSet resultSet) throws SQLException {
         final Order entity = new Order();
         entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
@@ -102,4 +315,39 @@ public class JdbcTemplateOrderDao implements OrderDao {
         entity.setOrderedTime(resultSet.getObject("ordered_time", LocalDateTime.class));
         return entity;
     }
+
+    private class OrderGroupingRowCallbackHandler implements RowCallbackHandler {
+        private final Consumer<Order> consumer;
+        private Order current;
+
+        private OrderGroupingRowCallbackHandler(final Consumer<Order> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(final ResultSet resultSet) throws SQLException {
+            final long orderId = resultSet.getLong(KEY_COLUMN_NAME);
+            if (Objects.isNull(current) || current.getId() != orderId) {
+                flush();
+                current = toEntity(resultSet);
+                current.setOrderLineItems(new ArrayList<>());
+            }
+            final Long seq = resultSet.getObject("seq", Long.class);
+            if (Objects.nonNull(seq)) {
+                final OrderLineItem orderLineItem = new OrderLineItem();
+                orderLineItem.setSeq(seq);
+                orderLineItem.setOrderId(orderId);
+                orderLineItem.setMenuId(resultSet.getLong("menu_id"));
+                orderLineItem.setQuantity(resultSet.getLong("quantity"));
+                current.getOrderLineItems().add(orderLineItem);
+            }
+        }
+
+        private void flush() {
+            if (Objects.nonNull(current)) {
+                consumer.accept(current);
+                current = null;
+            }
+        }
+    }
 }
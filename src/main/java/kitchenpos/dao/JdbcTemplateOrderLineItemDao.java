@@ -2,7 +2,7 @@ package kitchenpos.dao;
 
 import kitchenpos.domain.OrderLineItem;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -10,8 +10,11 @@ import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,7 @@ import java.util.Optional;
 public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
     private static final String TABLE_NAME = "order_line_item";
     private static final String KEY_COLUMN_NAME = "seq";
+    private static final int ORDER_ID_CHUNK_SIZE = 1000;
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
@@ -33,9 +37,27 @@ public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
 
     @Override
     public OrderLineItem save(final OrderLineItem entity) {
-        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-        final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return insert(entity);
+    }
+
+    @Override
+    public List<OrderLineItem> saveAll(final List<OrderLineItem> entities) {
+        if (entities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String sql = "INSERT INTO order_line_item (order_id, menu_id, quantity) VALUES (?, ?, ?)";
+        return jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<List<OrderLineItem>>) connection -> {
+            try (final PreparedStatement statement = connection.prepareStatement(sql, new String[]{KEY_COLUMN_NAME})) {
+                for (final OrderLineItem entity : entities) {
+                    statement.setLong(1, entity.getOrderId());
+                    statement.setLong(2, entity.getMenuId());
+                    statement.setLong(3, entity.getQuantity());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                return toSavedEntities(entities, statement);
+            }
+        });
     }
 
     @Override
@@ -61,6 +83,36 @@ public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
         return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public List<OrderLineItem> findAllByOrderIdIn(final List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String sql = "SELECT seq, order_id, menu_id, quantity FROM order_line_item" +
+                " WHERE order_id IN (:orderIds) ORDER BY order_id, seq";
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (int from = 0; from < orderIds.size(); from += ORDER_ID_CHUNK_SIZE) {
+            final SqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("orderIds", orderIds.subList(from, Math.min(from + ORDER_ID_CHUNK_SIZE, orderIds.size())));
+            orderLineItems.addAll(jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet)));
+        }
+        return orderLineItems;
+    }
+
+    private OrderLineItem insert(final OrderLineItem entity) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderId", entity.getOrderId())
+                .addValue("menuId", entity.getMenuId())
+                .addValue("quantity", entity.getQuantity());
+        final Number key = jdbcInsert.executeAndReturnKey(parameters);
+        final OrderLineItem savedEntity = new OrderLineItem();
+        savedEntity.setSeq(key.longValue());
+        savedEntity.setOrderId(entity.getOrderId());
+        savedEntity.setMenuId(entity.getMenuId());
+        savedEntity.setQuantity(entity.getQuantity());
+        return savedEntity;
+    }
+
     private OrderLineItem select(final Long id) {
         final String sql = "SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE seq = (:seq)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -68,6 +120,27 @@ public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
         return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    private List<OrderLineItem> toSavedEntities(
+            final List<OrderLineItem> entities,
+            final PreparedStatement statement
+    ) throws SQLException {
+        final List<OrderLineItem> savedEntities = new ArrayList<>(entities.size());
+        try (final ResultSet generatedKeys = statement.getGeneratedKeys()) {
+            for (final OrderLineItem entity : entities) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("generated key count does not match batch size");
+                }
+                final OrderLineItem savedEntity = new OrderLineItem();
+                savedEntity.setSeq(generatedKeys.getLong(1));
+                savedEntity.setOrderId(entity.getOrderId());
+                savedEntity.setMenuId(entity.getMenuId());
+                savedEntity.setQuantity(entity.getQuantity());
+                savedEntities.add(savedEntity);
+            }
+        }
+        return savedEntities;
+    }
+
     private OrderLineItem toEntity(final ResultSet resultSet) throws SQLException {
         final OrderLineItem entity = new OrderLineItem();
         entity.setSeq(resultSet.getLong(KEY_COLUMN_NAME));
@@ -2,7 +2,7 @@ package kitchenpos.dao;
 
 import kitchenpos.domain.OrderTable;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -13,13 +13,17 @@ import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 @Repository
 public class JdbcTemplateOrderTableDao implements OrderTableDao {
     private static final String TABLE_NAME = "order_table";
     private static final String KEY_COLUMN_NAME = "id";
+    private static final long DEFAULT_ACTIVE_ORDER_COUNT = 0L;
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
@@ -29,15 +33,14 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
         jdbcInsert = new SimpleJdbcInsert(dataSource)
                 .withTableName(TABLE_NAME)
                 .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
+                .usingColumns("table_group_id", "number_of_guests", "empty")
         ;
     }
 
     @Override
     public OrderTable save(final OrderTable entity) {
         if (Objects.isNull(entity.getId())) {
-            final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-            final Number key = jdbcInsert.executeAndReturnKey(parameters);
-            return select(key.longValue());
+            return insert(entity);
         }
         update(entity);
         return entity;
@@ -54,13 +57,19 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
 
     @Override
     public List<OrderTable> findAll() {
-        final String sql = "SELECT id, table_group_id, number_of_guests, empty FROM order_table";
+        final String sql = "SELECT id, table_group_id, number_of_guests, empty, active_order_count FROM order_table";
         return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public void findAll(final Consumer<OrderTable> consumer) {
+        final String sql = "SELECT id, table_group_id, number_of_guests, empty, active_order_count FROM order_table";
+        jdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> consumer.accept(toEntity(resultSet)));
+    }
+
     @Override
     public List<OrderTable> findAllByIdIn(final List<Long> ids) {
-        final String sql = "SELECT id, table_group_id, number_of_guests, empty FROM order_table WHERE id IN (:ids)";
+        final String sql = "SELECT id, table_group_id, number_of_guests, empty, active_order_count FROM order_table WHERE id IN (:ids)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("ids", ids);
         return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
@@ -68,15 +77,90 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
 
     @Override
     public List<OrderTable> findAllByTableGroupId(final Long tableGroupId) {
-        final String sql = "SELECT id, table_group_id, number_of_guests, empty" +
+        final String sql = "SELECT id, table_group_id, number_of_guests, empty, active_order_count" +
                 " FROM order_table WHERE table_group_id = (:tableGroupId)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("tableGroupId", tableGroupId);
         return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public int assignTableGroup(final List<Long> ids, final Long tableGroupId) {
+        final String sql = "UPDATE order_table SET table_group_id = (:tableGroupId), empty = FALSE" +
+                " WHERE id IN (:ids) AND empty = TRUE AND table_group_id IS NULL";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("tableGroupId", tableGroupId)
+                .addValue("ids", ids);
+        return jdbcTemplate.update(sql, parameters);
+    }
+
+    @Override
+    public int clearTableGroup(final Long tableGroupId) {
+        final String sql = "UPDATE order_table SET table_group_id = NULL, empty = FALSE WHERE table_group_id = (:tableGroupId)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("tableGroupId", tableGroupId);
+        return jdbcTemplate.update(sql, parameters);
+    }
+
+    @Override
+    public void increaseActiveOrderCount(final Long id, final long count) {
+        final String sql = "UPDATE order_table SET active_order_count = active_order_count + (:count) WHERE id = (:id)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("count", count)
+                .addValue("id", id);
+        jdbcTemplate.update(sql, parameters);
+    }
+
+    @Override
+    public void increaseActiveOrderCounts(final Map<Long, Long> countsById) {
+        final String sql = "UPDATE order_table SET active_order_count = active_order_count + (:count) WHERE id = (:id)";
+        final SqlParameterSource[] batchParameters = new TreeMap<>(countsById).entrySet()
+                .stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("count", entry.getValue())
+                        .addValue("id", entry.getKey()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(sql, batchParameters);
+    }
+
+    @Override
+    public void decreaseActiveOrderCount(final Long id, final long count) {
+        final String sql = "UPDATE order_table SET active_order_count = active_order_count - (:count) WHERE id = (:id)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("count", count)
+                .addValue("id", id);
+        jdbcTemplate.update(sql, parameters);
+    }
+
+    @Override
+    public void decreaseActiveOrderCounts(final Map<Long, Long> countsById) {
+        final String sql = "UPDATE order_table SET active_order_count = active_order_count - (:count) WHERE id = (:id)";
+        final SqlParameterSource[] batchParameters = new TreeMap<>(countsById).entrySet()
+                .stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("count", entry.getValue())
+                        .addValue("id", entry.getKey()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(sql, batchParameters);
+    }
+
+    private OrderTable insert(final OrderTable entity) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("tableGroupId", entity.getTableGroupId())
+                .addValue("numberOfGuests", entity.getNumberOfGuests())
+                .addValue("empty", entity.isEmpty());
+        final Number key = jdbcInsert.executeAndReturnKey(parameters);
+        final OrderTable savedEntity = new OrderTable();
+        savedEntity.setId(key.longValue());
+        savedEntity.setTableGroupId(entity.getTableGroupId());
+        savedEntity.setNumberOfGuests(entity.getNumberOfGuests());
+        savedEntity.setEmpty(entity.isEmpty());
+        savedEntity.setActiveOrderCount(DEFAULT_ACTIVE_ORDER_COUNT);
+        return savedEntity;
+    }
+
     private OrderTable select(final Long id) {
-        final String sql = "SELECT id, table_group_id, number_of_guests, empty FROM order_table WHERE id = (:id)";
+        final String sql = "SELECT id, table_group_id, number_of_guests, empty, active_order_count FROM order_table WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("id", id);
         return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
@@ -99,6 +183,7 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
         entity.setTableGroupId(resultSet.getObject("table_group_id", Long.class));
         entity.setNumberOfGuests(resultSet.getInt("number_of_guests"));
         entity.setEmpty(resultSet.getBoolean("empty"));
+        entity.setActiveOrderCount(resultSet.getLong("active_order_count"));
         return entity;
     }
 }
@@ -1,8 +1,8 @@
 package kitchenpos.dao;
 
+import kitchenpos.domain.Money;
 import kitchenpos.domain.Product;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,9 +34,7 @@ public class JdbcTemplateProductDao implements ProductDao {
 
     @Override
     public Product save(final Product entity) {
-        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-        final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return insert(entity);
     }
 
     @Override
@@ -49,12 +48,35 @@ public class JdbcTemplateProductDao implements ProductDao {
 
     @Override
     public List<Product> findAll() {
-        final String sql = "SELECT id, name, price FROM product";
+        final String sql = "SELECT id, name, CAST(price * 100 AS BIGINT) AS price_minor_units FROM product";
         return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public List<Product> findAllByIdIn(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String sql = "SELECT id, name, CAST(price * 100 AS BIGINT) AS price_minor_units FROM product WHERE id IN (:ids)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    private Product insert(final Product entity) {
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("name", entity.getName())
+                .addValue("price", entity.getPrice().toBigDecimal());
+        final Number key = jdbcInsert.executeAndReturnKey(parameters);
+        final Product savedEntity = new Product();
+        savedEntity.setId(key.longValue());
+        savedEntity.setName(entity.getName());
+        savedEntity.setPrice(entity.getPrice());
+        return savedEntity;
+    }
+
     private Product select(final Long id) {
-        final String sql = "SELECT id, name, price FROM product WHERE id = (:id)";
+        final String sql = "SELECT id, name, CAST(price * 100 AS BIGINT) AS price_minor_units FROM product WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("id", id);
         return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
@@ -64,7 +86,7 @@ public class JdbcTemplateProductDao implements ProductDao {
         final Product entity = new Product();
         entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
         entity.setName(resultSet.getString("name"));
-        entity.setPrice(resultSet.getBigDecimal("price"));
+        entity.setPrice(Money.ofMinorUnits(resultSet.getLong("price_minor_units")));
         return entity;
     }
 }
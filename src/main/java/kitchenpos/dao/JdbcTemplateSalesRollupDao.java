@@ -0,0 +1,132 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class JdbcTemplateSalesRollupDao implements SalesRollupDao {
+    private static final int ORDER_ID_CHUNK_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTemplateSalesRollupDao(final DataSource dataSource) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void addCompletedOrders(final List<Long> orderIds) {
+        for (int from = 0; from < orderIds.size(); from += ORDER_ID_CHUNK_SIZE) {
+            addCompletedOrderChunk(orderIds.subList(from, Math.min(from + ORDER_ID_CHUNK_SIZE, orderIds.size())));
+        }
+    }
+
+    @Override
+    public List<MenuSales> findAllMenuSales(final LocalDateTime from, final LocalDateTime to) {
+        final String sql = "SELECT menu_id, sales_hour, quantity, amount FROM menu_sales_hourly" +
+                " WHERE sales_hour >= (:from) AND sales_hour < (:to) ORDER BY sales_hour, menu_id";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toMenuSales(resultSet));
+    }
+
+    @Override
+    public List<MenuGroupSales> findAllMenuGroupSales(final LocalDate from, final LocalDate to) {
+        final String sql = "SELECT menu_group_id, sales_date, quantity, amount FROM menu_group_sales_daily" +
+                " WHERE sales_date >= (:from) AND sales_date < (:to) ORDER BY sales_date, menu_group_id";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toMenuGroupSales(resultSet));
+    }
+
+    private void addCompletedOrderChunk(final List<Long> orderIds) {
+        final String menuSalesSql = "SELECT oli.menu_id, DATE_TRUNC('HOUR', o.ordered_time) AS sales_hour," +
+                " SUM(oli.quantity) AS quantity, SUM(oli.quantity * m.price) AS amount" +
+                " FROM orders o JOIN order_line_item oli ON oli.order_id = o.id JOIN menu m ON m.id = oli.menu_id" +
+                " WHERE o.id IN (:orderIds) GROUP BY oli.menu_id, DATE_TRUNC('HOUR', o.ordered_time)" +
+                " ORDER BY oli.menu_id, sales_hour";
+        final String menuGroupSalesSql = "SELECT m.menu_group_id, CAST(o.ordered_time AS DATE) AS sales_date," +
+                " SUM(oli.quantity) AS quantity, SUM(oli.quantity * m.price) AS amount" +
+                " FROM orders o JOIN order_line_item oli ON oli.order_id = o.id JOIN menu m ON m.id = oli.menu_id" +
+                " WHERE o.id IN (:orderIds) GROUP BY m.menu_group_id, CAST(o.ordered_time AS DATE)" +
+                " ORDER BY m.menu_group_id, sales_date";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderIds", orderIds);
+        final List<MenuSales> menuSales = jdbcTemplate.query(
+                menuSalesSql, parameters, (resultSet, rowNumber) -> toMenuSales(resultSet)
+        );
+        final List<MenuGroupSales> menuGroupSales = jdbcTemplate.query(
+                menuGroupSalesSql, parameters, (resultSet, rowNumber) -> toMenuGroupSales(resultSet)
+        );
+        menuSales.forEach(this::addMenuSales);
+        menuGroupSales.forEach(this::addMenuGroupSales);
+    }
+
+    private void addMenuSales(final MenuSales menuSales) {
+        final String updateSql = "UPDATE menu_sales_hourly SET quantity = quantity + (:quantity)," +
+                " amount = amount + (:amount) WHERE menu_id = (:menuId) AND sales_hour = (:salesHour)";
+        final String insertSql = "INSERT INTO menu_sales_hourly (menu_id, sales_hour, quantity, amount)" +
+                " VALUES (:menuId, :salesHour, :quantity, :amount)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("menuId", menuSales.getMenuId())
+                .addValue("salesHour", menuSales.getSalesHour())
+                .addValue("quantity", menuSales.getQuantity())
+                .addValue("amount", menuSales.getAmount());
+        increment(updateSql, insertSql, parameters);
+    }
+
+    private void addMenuGroupSales(final MenuGroupSales menuGroupSales) {
+        final String updateSql = "UPDATE menu_group_sales_daily SET quantity = quantity + (:quantity)," +
+                " amount = amount + (:amount) WHERE menu_group_id = (:menuGroupId) AND sales_date = (:salesDate)";
+        final String insertSql = "INSERT INTO menu_group_sales_daily (menu_group_id, sales_date, quantity, amount)" +
+                " VALUES (:menuGroupId, :salesDate, :quantity, :amount)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("menuGroupId", menuGroupSales.getMenuGroupId())
+                .addValue("salesDate", menuGroupSales.getSalesDate())
+                .addValue("quantity", menuGroupSales.getQuantity())
+                .addValue("amount", menuGroupSales.getAmount());
+        increment(updateSql, insertSql, parameters);
+    }
+
+    private void increment(final String updateSql, final String insertSql, final SqlParameterSource parameters) {
+        if (jdbcTemplate.update(updateSql, parameters) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(insertSql, parameters);
+        } catch (final DuplicateKeyException e) {
+            jdbcTemplate.update(updateSql, parameters);
+        }
+    }
+
+    private MenuSales toMenuSales(final ResultSet resultSet) throws SQLException {
+        final MenuSales entity = new MenuSales();
+        entity.setMenuId(resultSet.getLong("menu_id"));
+        entity.setSalesHour(resultSet.getObject("sales_hour", LocalDateTime.class));
+        entity.setQuantity(resultSet.getLong("quantity"));
+        entity.setAmount(resultSet.getBigDecimal("amount"));
+        return entity;
+    }
+
+    private MenuGroupSales toMenuGroupSales(final ResultSet resultSet) throws SQLException {
+        final MenuGroupSales entity = new MenuGroupSales();
+        entity.setMenuGroupId(resultSet.getLong("menu_group_id"));
+        entity.setSalesDate(resultSet.getObject("sales_date", LocalDate.class));
+        entity.setQuantity(resultSet.getLong("quantity"));
+        entity.setAmount(resultSet.getBigDecimal("amount"));
+        return entity;
+    }
+}
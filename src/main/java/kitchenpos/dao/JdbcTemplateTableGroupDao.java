@@ -2,7 +2,6 @@ package kitchenpos.dao;
 
 import kitchenpos.domain.TableGroup;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -13,6 +12,7 @@ import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,9 +34,7 @@ public class JdbcTemplateTableGroupDao implements TableGroupDao {
 
     @Override
     public TableGroup save(final TableGroup entity) {
-        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
-        final Number key = jdbcInsert.executeAndReturnKey(parameters);
-        return select(key.longValue());
+        return insert(entity);
     }
 
     @Override
@@ -54,6 +52,17 @@ public class JdbcTemplateTableGroupDao implements TableGroupDao {
         return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    private TableGroup insert(final TableGroup entity) {
+        final LocalDateTime createdDate = entity.getCreatedDate().truncatedTo(ChronoUnit.MICROS);
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("createdDate", createdDate);
+        final Number key = jdbcInsert.executeAndReturnKey(parameters);
+        final TableGroup savedEntity = new TableGroup();
+        savedEntity.setId(key.longValue());
+        savedEntity.setCreatedDate(createdDate);
+        return savedEntity;
+    }
+
     private TableGroup select(final Long id) {
         final String sql = "SELECT id, created_date FROM table_group WHERE id = (:id)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
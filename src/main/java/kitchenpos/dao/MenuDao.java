@@ -12,5 +12,7 @@ public interface MenuDao {
 
     List<Menu> findAll();
 
+    List<Menu> findAllByIdIn(List<Long> ids);
+
     long countByIdIn(List<Long> ids);
 }
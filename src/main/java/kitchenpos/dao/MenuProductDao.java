@@ -8,6 +8,8 @@ import java.util.Optional;
 public interface MenuProductDao {
     MenuProduct save(MenuProduct entity);
 
+    List<MenuProduct> saveAll(List<MenuProduct> entities);
+
     Optional<MenuProduct> findById(Long id);
 
     List<MenuProduct> findAll();
@@ -0,0 +1,10 @@
+package kitchenpos.dao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderArchiveDao {
+    List<Long> findArchivableIds(LocalDateTime orderedBefore, long after, int limit);
+
+    int archive(List<Long> orderIds);
+}
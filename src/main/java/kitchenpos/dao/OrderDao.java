@@ -4,14 +4,33 @@ import kitchenpos.domain.Order;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderDao {
     Order save(Order entity);
 
+    List<Order> saveAll(List<Order> entities);
+
+    boolean updateOrderStatus(Long id, List<String> previousOrderStatuses, String orderStatus);
+
+    int updateOrderStatuses(List<Long> ids, List<String> previousOrderStatuses, String orderStatus);
+
     Optional<Order> findById(Long id);
 
+    Optional<Order> findByIdWithOrderLineItems(Long id);
+
     List<Order> findAll();
 
+    List<Long> findAllIds(OrderSearchCondition condition);
+
+    List<Order> findAllByIdInForUpdate(List<Long> ids);
+
+    List<Order> findAllByOrderTableIdInAndOrderStatusInForUpdate(List<Long> orderTableIds, List<String> orderStatuses, int limit);
+
+    void findAllWithOrderLineItems(Consumer<Order> consumer);
+
+    void findAllWithOrderLineItemsByIdIn(List<Long> ids, boolean includeArchived, Consumer<Order> consumer);
+
     boolean existsByOrderTableIdAndOrderStatusIn(Long orderTableId, List<String> orderStatuses);
 
     boolean existsByOrderTableIdInAndOrderStatusIn(List<Long> orderTableIds, List<String> orderStatuses);
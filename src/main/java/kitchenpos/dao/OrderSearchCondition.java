@@ -0,0 +1,77 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class OrderSearchCondition {
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1_000;
+
+    private final Long after;
+    private final Integer limit;
+    private final String orderStatus;
+    private final Long orderTableId;
+    private final LocalDateTime orderedTimeFrom;
+    private final LocalDateTime orderedTimeTo;
+    private final boolean includeArchived;
+
+    public OrderSearchCondition(
+            final Long after,
+            final Integer limit,
+            final String orderStatus,
+            final Long orderTableId,
+            final LocalDateTime orderedTimeFrom,
+            final LocalDateTime orderedTimeTo,
+            final boolean includeArchived
+    ) {
+        if (Objects.nonNull(limit) && (limit <= 0 || limit > MAX_LIMIT)) {
+            throw new IllegalArgumentException();
+        }
+        if (Objects.nonNull(orderStatus)) {
+            OrderStatus.valueOf(orderStatus);
+        }
+        this.after = after;
+        this.limit = limit;
+        this.orderStatus = orderStatus;
+        this.orderTableId = orderTableId;
+        this.orderedTimeFrom = orderedTimeFrom;
+        this.orderedTimeTo = orderedTimeTo;
+        this.includeArchived = includeArchived;
+    }
+
+    public boolean isEmpty() {
+        return Objects.isNull(after) && Objects.isNull(limit) && Objects.isNull(orderStatus)
+                && Objects.isNull(orderTableId) && Objects.isNull(orderedTimeFrom) && Objects.isNull(orderedTimeTo)
+                && !includeArchived;
+    }
+
+    public long getAfter() {
+        return Objects.isNull(after) ? 0L : after;
+    }
+
+    public int getLimit() {
+        return Objects.isNull(limit) ? DEFAULT_LIMIT : limit;
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public LocalDateTime getOrderedTimeFrom() {
+        return orderedTimeFrom;
+    }
+
+    public LocalDateTime getOrderedTimeTo() {
+        return orderedTimeTo;
+    }
+
+    public boolean isIncludeArchived() {
+        return includeArchived;
+    }
+}
@@ -3,7 +3,9 @@ package kitchenpos.dao;
 import kitchenpos.domain.OrderTable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderTableDao {
     OrderTable save(OrderTable entity);
@@ -12,7 +14,21 @@ public interface OrderTableDao {
 
     List<OrderTable> findAll();
 
+    void findAll(Consumer<OrderTable> consumer);
+
     List<OrderTable> findAllByIdIn(List<Long> ids);
 
     List<OrderTable> findAllByTableGroupId(Long tableGroupId);
+
+    int assignTableGroup(List<Long> ids, Long tableGroupId);
+
+    int clearTableGroup(Long tableGroupId);
+
+    void increaseActiveOrderCount(Long id, long count);
+
+    void increaseActiveOrderCounts(Map<Long, Long> countsById);
+
+    void decreaseActiveOrderCount(Long id, long count);
+
+    void decreaseActiveOrderCounts(Map<Long, Long> countsById);
 }
@@ -0,0 +1,16 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesRollupDao {
+    void addCompletedOrders(List<Long> orderIds);
+
+    List<MenuSales> findAllMenuSales(LocalDateTime from, LocalDateTime to);
+
+    List<MenuGroupSales> findAllMenuGroupSales(LocalDate from, LocalDate to);
+}
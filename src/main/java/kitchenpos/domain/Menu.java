@@ -1,12 +1,11 @@
 package kitchenpos.domain;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 public class Menu {
     private Long id;
     private String name;
-    private BigDecimal price;
+    private Money price;
     private Long menuGroupId;
     private List<MenuProduct> menuProducts;
 
@@ -26,11 +25,11 @@ public class Menu {
         this.name = name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
 
@@ -0,0 +1,43 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class MenuGroupSales {
+    private Long menuGroupId;
+    private LocalDate salesDate;
+    private long quantity;
+    private BigDecimal amount;
+
+    public Long getMenuGroupId() {
+        return menuGroupId;
+    }
+
+    public void setMenuGroupId(final Long menuGroupId) {
+        this.menuGroupId = menuGroupId;
+    }
+
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+
+    public void setSalesDate(final LocalDate salesDate) {
+        this.salesDate = salesDate;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final long quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(final BigDecimal amount) {
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,43 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class MenuSales {
+    private Long menuId;
+    private LocalDateTime salesHour;
+    private long quantity;
+    private BigDecimal amount;
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public void setMenuId(final Long menuId) {
+        this.menuId = menuId;
+    }
+
+    public LocalDateTime getSalesHour() {
+        return salesHour;
+    }
+
+    public void setSalesHour(final LocalDateTime salesHour) {
+        this.salesHour = salesHour;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final long quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(final BigDecimal amount) {
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,93 @@
+package kitchenpos.domain;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class Money implements Comparable<Money> {
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    private final long minorUnits;
+
+    private Money(final long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinorUnits(final long minorUnits) {
+        if (minorUnits == 0L) {
+            return ZERO;
+        }
+        return new Money(minorUnits);
+    }
+
+    @JsonCreator
+    public static Money from(final BigDecimal amount) {
+        try {
+            return ofMinorUnits(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(final Money other) {
+        try {
+            return ofMinorUnits(Math.addExact(minorUnits, other.minorUnits));
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public Money times(final long multiplier) {
+        try {
+            return ofMinorUnits(Math.multiplyExact(minorUnits, multiplier));
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0L;
+    }
+
+    public boolean isGreaterThan(final Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(final Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money)) {
+            return false;
+        }
+        return minorUnits == ((Money) o).minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
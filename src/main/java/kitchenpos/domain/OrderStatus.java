@@ -1,5 +1,20 @@
 package kitchenpos.domain;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 public enum OrderStatus {
-    COOKING, MEAL, COMPLETION
+    COOKING, MEAL, COMPLETION;
+
+    public List<OrderStatus> getPreviousStatuses() {
+        switch (this) {
+            case MEAL:
+                return Collections.singletonList(COOKING);
+            case COMPLETION:
+                return Arrays.asList(COOKING, MEAL);
+            default:
+                return Collections.emptyList();
+        }
+    }
 }
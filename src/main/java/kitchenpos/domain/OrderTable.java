@@ -5,6 +5,7 @@ public class OrderTable {
     private Long tableGroupId;
     private int numberOfGuests;
     private boolean empty;
+    private long activeOrderCount;
 
     public Long getId() {
         return id;
@@ -37,4 +38,12 @@ public class OrderTable {
     public void setEmpty(final boolean empty) {
         this.empty = empty;
     }
+
+    public long getActiveOrderCount() {
+        return activeOrderCount;
+    }
+
+    public void setActiveOrderCount(final long activeOrderCount) {
+        this.activeOrderCount = activeOrderCount;
+    }
 }
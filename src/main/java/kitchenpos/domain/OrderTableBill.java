@@ -0,0 +1,31 @@
+package kitchenpos.domain;
+
+public class OrderTableBill {
+    private Long orderTableId;
+    private long orderCount;
+    private Money price;
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public void setOrderTableId(final Long orderTableId) {
+        this.orderTableId = orderTableId;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(final long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+
+    public void setPrice(final Money price) {
+        this.price = price;
+    }
+}
@@ -0,0 +1,33 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public class TableGroupBill {
+    private Long tableGroupId;
+    private List<OrderTableBill> orderTableBills;
+    private Money totalPrice;
+
+    public Long getTableGroupId() {
+        return tableGroupId;
+    }
+
+    public void setTableGroupId(final Long tableGroupId) {
+        this.tableGroupId = tableGroupId;
+    }
+
+    public List<OrderTableBill> getOrderTableBills() {
+        return orderTableBills;
+    }
+
+    public void setOrderTableBills(final List<OrderTableBill> orderTableBills) {
+        this.orderTableBills = orderTableBills;
+    }
+
+    public Money getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(final Money totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+}
@@ -1,5 +1,7 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.CatalogType;
+import kitchenpos.application.CatalogVersions;
 import kitchenpos.application.MenuGroupService;
 import kitchenpos.domain.MenuGroup;
 import org.springframework.http.ResponseEntity;
@@ -7,6 +9,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -14,9 +17,11 @@ import java.util.List;
 @RestController
 public class MenuGroupRestController {
     private final MenuGroupService menuGroupService;
+    private final CatalogVersions catalogVersions;
 
-    public MenuGroupRestController(final MenuGroupService menuGroupService) {
+    public MenuGroupRestController(final MenuGroupService menuGroupService, final CatalogVersions catalogVersions) {
         this.menuGroupService = menuGroupService;
+        this.catalogVersions = catalogVersions;
     }
 
     @PostMapping("/api/menu-groups")
@@ -29,8 +34,13 @@ public class MenuGroupRestController {
     }
 
     @GetMapping("/api/menu-groups")
-    public ResponseEntity<List<MenuGroup>> list() {
+    public ResponseEntity<List<MenuGroup>> list(final WebRequest request) {
+        final String eTag = catalogVersions.getETag(CatalogType.MENU_GROUP);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         return ResponseEntity.ok()
+                .eTag(eTag)
                 .body(menuGroupService.list())
                 ;
     }
@@ -1,22 +1,35 @@
 package kitchenpos.ui;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.CatalogType;
+import kitchenpos.application.CatalogVersions;
 import kitchenpos.application.MenuService;
 import kitchenpos.domain.Menu;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 public class MenuRestController {
     private final MenuService menuService;
+    private final CatalogVersions catalogVersions;
+    private final ObjectMapper objectMapper;
 
-    public MenuRestController(final MenuService menuService) {
+    public MenuRestController(
+            final MenuService menuService,
+            final CatalogVersions catalogVersions,
+            final ObjectMapper objectMapper
+    ) {
         this.menuService = menuService;
+        this.catalogVersions = catalogVersions;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/api/menus")
@@ -29,9 +42,18 @@ public class MenuRestController {
     }
 
     @GetMapping("/api/menus")
-    public ResponseEntity<List<Menu>> list() {
+    public ResponseEntity<StreamingResponseBody> list(final WebRequest request) {
+        final String eTag = catalogVersions.getETag(CatalogType.MENU);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        final StreamingResponseBody body = StreamingJson.array(
+                objectMapper.getFactory(), menuService::list, StreamingJson::writeMenu
+        );
         return ResponseEntity.ok()
-                .body(menuService.list())
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body)
                 ;
     }
 }
@@ -1,23 +1,65 @@
 package kitchenpos.ui;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.BulkOrderResult;
+import kitchenpos.application.BulkOrderStatusResult;
+import kitchenpos.application.OrderBulkService;
+import kitchenpos.application.OrderEventBroadcaster;
+import kitchenpos.application.OrderIngestionQueue;
 import kitchenpos.application.OrderService;
+import kitchenpos.application.OrderStatusChange;
+import kitchenpos.application.OrderTicket;
+import kitchenpos.dao.OrderSearchCondition;
 import kitchenpos.domain.Order;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
 public class OrderRestController {
+    private static final String NEXT_AFTER_HEADER = "X-Next-After";
+
     private final OrderService orderService;
+    private final OrderBulkService orderBulkService;
+    private final OrderIngestionQueue orderIngestionQueue;
+    private final OrderEventBroadcaster orderEventBroadcaster;
+    private final ObjectMapper objectMapper;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+            final OrderService orderService,
+            final OrderBulkService orderBulkService,
+            final OrderIngestionQueue orderIngestionQueue,
+            final OrderEventBroadcaster orderEventBroadcaster,
+            final ObjectMapper objectMapper
+    ) {
         this.orderService = orderService;
+        this.orderBulkService = orderBulkService;
+        this.orderIngestionQueue = orderIngestionQueue;
+        this.orderEventBroadcaster = orderEventBroadcaster;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/api/orders")
-    public ResponseEntity<Order> create(@RequestBody final Order order) {
+    public ResponseEntity<?> create(@RequestBody final Order order) {
+        if (orderIngestionQueue.isEnabled()) {
+            return orderIngestionQueue.submit(order)
+                    .<ResponseEntity<?>>map(ticket -> ResponseEntity.accepted()
+                            .location(URI.create("/api/orders/tickets/" + ticket.getId()))
+                            .body(ticket))
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .build())
+                    ;
+        }
         final Order created = orderService.create(order);
         final URI uri = URI.create("/api/orders/" + created.getId());
         return ResponseEntity.created(uri)
@@ -25,10 +67,81 @@ public class OrderRestController {
                 ;
     }
 
+    @PostMapping("/api/orders/bulk")
+    public ResponseEntity<List<BulkOrderResult>> createAll(@RequestBody final List<Order> orders) {
+        return ResponseEntity.ok()
+                .body(orderBulkService.createAll(orders))
+                ;
+    }
+
     @GetMapping("/api/orders")
-    public ResponseEntity<List<Order>> list() {
+    public ResponseEntity<StreamingResponseBody> list(
+            @RequestParam(required = false) final Long after,
+            @RequestParam(required = false) final Integer limit,
+            @RequestParam(required = false) final String orderStatus,
+            @RequestParam(required = false) final Long orderTableId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime orderedTimeFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            final LocalDateTime orderedTimeTo,
+            @RequestParam(defaultValue = "false") final boolean includeArchived
+    ) {
+        final OrderSearchCondition condition = new OrderSearchCondition(
+                after, limit, orderStatus, orderTableId, orderedTimeFrom, orderedTimeTo, includeArchived
+        );
+        if (condition.isEmpty()) {
+            final StreamingResponseBody body = StreamingJson.array(
+                    objectMapper.getFactory(), orderService::export, StreamingJson::writeOrder
+            );
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body)
+                    ;
+        }
+        final List<Long> orderIds = orderService.findIds(condition);
+        final StreamingResponseBody body = StreamingJson.array(
+                objectMapper.getFactory(),
+                consumer -> orderService.list(orderIds, condition.isIncludeArchived(), consumer),
+                StreamingJson::writeOrder
+        );
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON);
+        if (orderIds.size() == condition.getLimit()) {
+            final Long nextAfter = orderIds.get(orderIds.size() - 1);
+            final String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", nextAfter)
+                    .replaceQueryParam("limit", condition.getLimit())
+                    .build()
+                    .toUriString();
+            response.header(NEXT_AFTER_HEADER, String.valueOf(nextAfter))
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/api/orders/tickets/{ticketId}")
+    public ResponseEntity<OrderTicket> findTicket(@PathVariable final Long ticketId) {
+        return ResponseEntity.of(orderIngestionQueue.findTicket(ticketId));
+    }
+
+    @GetMapping(value = "/api/orders/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) final Long lastEventId) {
+        final SseEmitter emitter = new SseEmitter(orderEventBroadcaster.getSubscriberTimeoutMillis());
+        final Runnable unsubscribe = orderEventBroadcaster.subscribe(lastEventId, new SseOrderEventSink(emitter));
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    @GetMapping("/api/orders/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        final StreamingResponseBody body = StreamingJson.lines(
+                objectMapper.getFactory(), orderService::export, StreamingJson::writeOrder
+        );
         return ResponseEntity.ok()
-                .body(orderService.list())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body)
                 ;
     }
 
@@ -39,4 +152,11 @@ public class OrderRestController {
     ) {
         return ResponseEntity.ok(orderService.changeOrderStatus(orderId, order));
     }
+
+    @PutMapping("/api/orders/order-status")
+    public ResponseEntity<List<BulkOrderStatusResult>> changeOrderStatuses(@RequestBody final OrderStatusChange change) {
+        return ResponseEntity.ok()
+                .body(orderBulkService.changeOrderStatuses(change))
+                ;
+    }
 }
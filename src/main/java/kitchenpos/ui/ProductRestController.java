@@ -1,5 +1,7 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.CatalogType;
+import kitchenpos.application.CatalogVersions;
 import kitchenpos.application.ProductService;
 import kitchenpos.domain.Product;
 import org.springframework.http.ResponseEntity;
@@ -7,6 +9,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -14,9 +17,11 @@ import java.util.List;
 @RestController
 public class ProductRestController {
     private final ProductService productService;
+    private final CatalogVersions catalogVersions;
 
-    public ProductRestController(final ProductService productService) {
+    public ProductRestController(final ProductService productService, final CatalogVersions catalogVersions) {
         this.productService = productService;
+        this.catalogVersions = catalogVersions;
     }
 
     @PostMapping("/api/products")
@@ -29,8 +34,13 @@ public class ProductRestController {
     }
 
     @GetMapping("/api/products")
-    public ResponseEntity<List<Product>> list() {
+    public ResponseEntity<List<Product>> list(final WebRequest request) {
+        final String eTag = catalogVersions.getETag(CatalogType.PRODUCT);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         return ResponseEntity.ok()
+                .eTag(eTag)
                 .body(productService.list())
                 ;
     }
@@ -0,0 +1,43 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.SalesReportService;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+public class SalesReportRestController {
+    private final SalesReportService salesReportService;
+
+    public SalesReportRestController(final SalesReportService salesReportService) {
+        this.salesReportService = salesReportService;
+    }
+
+    @GetMapping("/api/reports/menu-sales")
+    public ResponseEntity<List<MenuSales>> listMenuSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        return ResponseEntity.ok()
+                .body(salesReportService.listMenuSales(from, to))
+                ;
+    }
+
+    @GetMapping("/api/reports/menu-group-sales")
+    public ResponseEntity<List<MenuGroupSales>> listMenuGroupSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to
+    ) {
+        return ResponseEntity.ok()
+                .body(salesReportService.listMenuGroupSales(from, to))
+                ;
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderEventSink;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+class SseOrderEventSink implements OrderEventSink {
+    private final SseEmitter emitter;
+
+    SseOrderEventSink(final SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(final long id, final String name, final Object data) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(id))
+                .name(name)
+                .data(data));
+    }
+
+    @Override
+    public void complete() {
+        emitter.complete();
+    }
+
+    @Override
+    public void completeWithError(final Throwable throwable) {
+        emitter.completeWithError(throwable);
+    }
+}
@@ -0,0 +1,188 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderTable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public final class StreamingJson {
+    private StreamingJson() {
+    }
+
+    public static <T> StreamingResponseBody array(
+            final JsonFactory jsonFactory,
+            final Consumer<Consumer<T>> rows,
+            final RowWriter<T> rowWriter
+    ) {
+        return outputStream -> {
+            try (final JsonGenerator generator = createGenerator(jsonFactory, outputStream)) {
+                generator.writeStartArray();
+                rows.accept(row -> {
+                    try {
+                        rowWriter.write(generator, row);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    public static <T> StreamingResponseBody lines(
+            final JsonFactory jsonFactory,
+            final Consumer<Consumer<T>> rows,
+            final RowWriter<T> rowWriter
+    ) {
+        return outputStream -> {
+            try (final JsonGenerator generator = createGenerator(jsonFactory, outputStream)) {
+                generator.setRootValueSeparator(null);
+                rows.accept(row -> {
+                    try {
+                        rowWriter.write(generator, row);
+                        generator.writeRaw('\n');
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
+
+    public static void writeOrder(final JsonGenerator generator, final Order order) throws IOException {
+        generator.writeStartObject();
+        writeNumberField(generator, "id", order.getId());
+        writeNumberField(generator, "orderTableId", order.getOrderTableId());
+        generator.writeStringField("orderStatus", order.getOrderStatus());
+        writeDateTimeField(generator, "orderedTime", order.getOrderedTime());
+        generator.writeFieldName("orderLineItems");
+        writeOrderLineItems(generator, order.getOrderLineItems());
+        generator.writeEndObject();
+    }
+
+    public static void writeOrderTable(final JsonGenerator generator, final OrderTable orderTable) throws IOException {
+        generator.writeStartObject();
+        writeNumberField(generator, "id", orderTable.getId());
+        writeNumberField(generator, "tableGroupId", orderTable.getTableGroupId());
+        generator.writeNumberField("numberOfGuests", orderTable.getNumberOfGuests());
+        generator.writeBooleanField("empty", orderTable.isEmpty());
+        generator.writeNumberField("activeOrderCount", orderTable.getActiveOrderCount());
+        generator.writeEndObject();
+    }
+
+    public static void writeMenu(final JsonGenerator generator, final Menu menu) throws IOException {
+        generator.writeStartObject();
+        writeNumberField(generator, "id", menu.getId());
+        generator.writeStringField("name", menu.getName());
+        writeMoneyField(generator, "price", menu.getPrice());
+        writeNumberField(generator, "menuGroupId", menu.getMenuGroupId());
+        generator.writeFieldName("menuProducts");
+        writeMenuProducts(generator, menu.getMenuProducts());
+        generator.writeEndObject();
+    }
+
+    private static JsonGenerator createGenerator(
+            final JsonFactory jsonFactory,
+            final OutputStream outputStream
+    ) throws IOException {
+        final JsonGenerator generator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+
+    private static void writeOrderLineItems(
+            final JsonGenerator generator,
+            final List<OrderLineItem> orderLineItems
+    ) throws IOException {
+        if (Objects.isNull(orderLineItems)) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (final OrderLineItem orderLineItem : orderLineItems) {
+            generator.writeStartObject();
+            writeNumberField(generator, "seq", orderLineItem.getSeq());
+            writeNumberField(generator, "orderId", orderLineItem.getOrderId());
+            writeNumberField(generator, "menuId", orderLineItem.getMenuId());
+            generator.writeNumberField("quantity", orderLineItem.getQuantity());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeMenuProducts(
+            final JsonGenerator generator,
+            final List<MenuProduct> menuProducts
+    ) throws IOException {
+        if (Objects.isNull(menuProducts)) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (final MenuProduct menuProduct : menuProducts) {
+            generator.writeStartObject();
+            writeNumberField(generator, "seq", menuProduct.getSeq());
+            writeNumberField(generator, "menuId", menuProduct.getMenuId());
+            writeNumberField(generator, "productId", menuProduct.getProductId());
+            generator.writeNumberField("quantity", menuProduct.getQuantity());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeNumberField(
+            final JsonGenerator generator,
+            final String name,
+            final Long value
+    ) throws IOException {
+        if (Objects.isNull(value)) {
+            generator.writeNullField(name);
+            return;
+        }
+        generator.writeNumberField(name, value);
+    }
+
+    private static void writeMoneyField(
+            final JsonGenerator generator,
+            final String name,
+            final Money value
+    ) throws IOException {
+        if (Objects.isNull(value)) {
+            generator.writeNullField(name);
+            return;
+        }
+        generator.writeNumberField(name, value.toBigDecimal());
+    }
+
+    private static void writeDateTimeField(
+            final JsonGenerator generator,
+            final String name,
+            final LocalDateTime value
+    ) throws IOException {
+        if (Objects.isNull(value)) {
+            generator.writeNullField(name);
+            return;
+        }
+        generator.writeStringField(name, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+    }
+
+    @FunctionalInterface
+    public interface RowWriter<T> {
+        void write(JsonGenerator generator, T row) throws IOException;
+    }
+}
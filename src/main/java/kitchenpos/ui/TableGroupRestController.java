@@ -1,7 +1,9 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.TableGroupBillService;
 import kitchenpos.application.TableGroupService;
 import kitchenpos.domain.TableGroup;
+import kitchenpos.domain.TableGroupBill;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -10,9 +12,14 @@ import java.net.URI;
 @RestController
 public class TableGroupRestController {
     private final TableGroupService tableGroupService;
+    private final TableGroupBillService tableGroupBillService;
 
-    public TableGroupRestController(final TableGroupService tableGroupService) {
+    public TableGroupRestController(
+            final TableGroupService tableGroupService,
+            final TableGroupBillService tableGroupBillService
+    ) {
         this.tableGroupService = tableGroupService;
+        this.tableGroupBillService = tableGroupBillService;
     }
 
     @PostMapping("/api/table-groups")
@@ -24,6 +31,13 @@ public class TableGroupRestController {
                 ;
     }
 
+    @GetMapping("/api/table-groups/{tableGroupId}/bill")
+    public ResponseEntity<TableGroupBill> bill(@PathVariable final Long tableGroupId) {
+        return ResponseEntity.ok()
+                .body(tableGroupBillService.getBill(tableGroupId))
+                ;
+    }
+
     @DeleteMapping("/api/table-groups/{tableGroupId}")
     public ResponseEntity<Void> ungroup(@PathVariable final Long tableGroupId) {
         tableGroupService.ungroup(tableGroupId);
@@ -1,19 +1,23 @@
 package kitchenpos.ui;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kitchenpos.application.TableService;
 import kitchenpos.domain.OrderTable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 public class TableRestController {
     private final TableService tableService;
+    private final ObjectMapper objectMapper;
 
-    public TableRestController(final TableService tableService) {
+    public TableRestController(final TableService tableService, final ObjectMapper objectMapper) {
         this.tableService = tableService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/api/tables")
@@ -26,9 +30,13 @@ public class TableRestController {
     }
 
     @GetMapping("/api/tables")
-    public ResponseEntity<List<OrderTable>> list() {
+    public ResponseEntity<StreamingResponseBody> list() {
+        final StreamingResponseBody body = StreamingJson.array(
+                objectMapper.getFactory(), tableService::list, StreamingJson::writeOrderTable
+        );
         return ResponseEntity.ok()
-                .body(tableService.list())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body)
                 ;
     }
 
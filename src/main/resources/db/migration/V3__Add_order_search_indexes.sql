@@ -0,0 +1,8 @@
+create index ix_orders_order_status_id
+    on orders (order_status, id);
+
+create index ix_orders_order_table_id_id
+    on orders (order_table_id, id);
+
+create index ix_orders_ordered_time_id
+    on orders (ordered_time, id);
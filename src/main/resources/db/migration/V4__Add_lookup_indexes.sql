@@ -0,0 +1,11 @@
+create index ix_orders_order_table_id_order_status
+    on orders (order_table_id, order_status);
+
+create index ix_order_line_item_order_id
+    on order_line_item (order_id, menu_id, quantity);
+
+create index ix_menu_product_menu_id
+    on menu_product (menu_id, product_id, quantity);
+
+create index ix_order_table_table_group_id
+    on order_table (table_group_id);
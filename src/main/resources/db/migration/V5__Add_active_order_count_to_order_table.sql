@@ -0,0 +1,8 @@
+alter table order_table
+    add column active_order_count bigint default 0 not null;
+
+update order_table t
+set active_order_count = (select count(*)
+                          from orders o
+                          where o.order_table_id = t.id
+                            and o.order_status in ('COOKING', 'MEAL'));
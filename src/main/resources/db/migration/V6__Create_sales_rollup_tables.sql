@@ -0,0 +1,39 @@
+create table menu_sales_hourly
+(
+    menu_id    bigint         not null,
+    sales_hour datetime       not null,
+    quantity   bigint         not null,
+    amount     decimal(19, 2) not null,
+    primary key (menu_id, sales_hour)
+);
+
+create table menu_group_sales_daily
+(
+    menu_group_id bigint         not null,
+    sales_date    date           not null,
+    quantity      bigint         not null,
+    amount        decimal(19, 2) not null,
+    primary key (menu_group_id, sales_date)
+);
+
+create index ix_menu_sales_hourly_sales_hour
+    on menu_sales_hourly (sales_hour);
+
+create index ix_menu_group_sales_daily_sales_date
+    on menu_group_sales_daily (sales_date);
+
+insert into menu_sales_hourly (menu_id, sales_hour, quantity, amount)
+select oli.menu_id, date_trunc('HOUR', o.ordered_time), sum(oli.quantity), sum(oli.quantity * m.price)
+from orders o
+         join order_line_item oli on oli.order_id = o.id
+         join menu m on m.id = oli.menu_id
+where o.order_status = 'COMPLETION'
+group by oli.menu_id, date_trunc('HOUR', o.ordered_time);
+
+insert into menu_group_sales_daily (menu_group_id, sales_date, quantity, amount)
+select m.menu_group_id, cast(o.ordered_time as date), sum(oli.quantity), sum(oli.quantity * m.price)
+from orders o
+         join order_line_item oli on oli.order_id = o.id
+         join menu m on m.id = oli.menu_id
+where o.order_status = 'COMPLETION'
+group by m.menu_group_id, cast(o.ordered_time as date);
@@ -0,0 +1,26 @@
+create table orders_archive
+(
+    id             bigint       not null,
+    order_status   varchar(255) not null,
+    ordered_time   datetime     not null,
+    order_table_id bigint       not null,
+    primary key (id)
+);
+
+create table order_line_item_archive
+(
+    seq      bigint not null,
+    quantity bigint not null,
+    menu_id  bigint not null,
+    order_id bigint not null,
+    primary key (seq)
+);
+
+create index ix_orders_archive_order_table_id_id
+    on orders_archive (order_table_id, id);
+
+create index ix_orders_archive_ordered_time_id
+    on orders_archive (ordered_time, id);
+
+create index ix_order_line_item_archive_order_id
+    on order_line_item_archive (order_id, menu_id, quantity);
@@ -0,0 +1,74 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuProductDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MenuCatalogTest {
+    @Mock
+    private MenuDao menuDao;
+
+    @Mock
+    private MenuProductDao menuProductDao;
+
+    private MenuCatalog menuCatalog;
+
+    @BeforeEach
+    void setUp() {
+        menuCatalog = new MenuCatalog(menuDao, menuProductDao, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void callersCannotChangeCachedMenus() {
+        given(menuDao.findAll()).willReturn(new ArrayList<>(Collections.singletonList(menu())));
+        given(menuProductDao.findAll()).willReturn(new ArrayList<>(Collections.singletonList(menuProduct())));
+        final Menu changed = menuCatalog.getMenus().get(0);
+
+        changed.setName("양념치킨");
+        changed.setPrice(Money.ZERO);
+        changed.getMenuProducts().get(0).setQuantity(5L);
+        changed.getMenuProducts().clear();
+
+        final List<Menu> menus = menuCatalog.getMenus();
+        assertThat(menus.get(0).getName()).isEqualTo("후라이드치킨");
+        assertThat(menus.get(0).getPrice()).isEqualTo(Money.ofMinorUnits(1_600_000L));
+        assertThat(menus.get(0).getMenuProducts()).extracting(MenuProduct::getQuantity).containsExactly(2L);
+        verify(menuDao, times(1)).findAll();
+    }
+
+    private Menu menu() {
+        final Menu menu = new Menu();
+        menu.setId(1L);
+        menu.setName("후라이드치킨");
+        menu.setPrice(Money.ofMinorUnits(1_600_000L));
+        menu.setMenuGroupId(1L);
+        return menu;
+    }
+
+    private MenuProduct menuProduct() {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setSeq(1L);
+        menuProduct.setMenuId(1L);
+        menuProduct.setProductId(1L);
+        menuProduct.setQuantity(2L);
+        return menuProduct;
+    }
+}
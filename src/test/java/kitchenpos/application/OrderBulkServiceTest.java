@@ -0,0 +1,235 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.dao.SalesRollupDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBulkServiceTest {
+    private static final Long ORDER_TABLE_ID = 1L;
+    private static final Long MENU_ID = 1L;
+
+    @Mock
+    private MenuDao menuDao;
+
+    @Mock
+    private OrderDao orderDao;
+
+    @Mock
+    private OrderLineItemDao orderLineItemDao;
+
+    @Mock
+    private OrderTableDao orderTableDao;
+
+    @Mock
+    private SalesRollupDao salesRollupDao;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderBulkService orderBulkService;
+
+    @BeforeEach
+    void setUp() {
+        orderBulkService = new OrderBulkService(
+                menuDao, orderDao, orderLineItemDao, orderTableDao, salesRollupDao,
+                orderService, eventPublisher, transactionManager
+        );
+    }
+
+    @Test
+    void tableSelectionOnlyPicksOrdersThatCanMoveToTheRequestedStatus() {
+        final List<String> cookingOnly = Collections.singletonList(OrderStatus.COOKING.name());
+        given(orderDao.findAllByIdInForUpdate(Collections.emptyList())).willReturn(Collections.emptyList());
+        given(orderDao.findAllByOrderTableIdInAndOrderStatusInForUpdate(
+                Collections.singletonList(ORDER_TABLE_ID), cookingOnly, 1_001
+        )).willReturn(Collections.singletonList(order(1L, OrderStatus.COOKING)));
+        given(orderLineItemDao.findAllByOrderIdIn(anyList())).willReturn(Collections.emptyList());
+
+        final List<BulkOrderStatusResult> results = orderBulkService.changeOrderStatuses(
+                change(OrderStatus.MEAL, Collections.emptyList(), Collections.singletonList(ORDER_TABLE_ID))
+        );
+
+        assertThat(results).extracting(BulkOrderStatusResult::getOrderId).containsExactly(1L);
+        assertThat(results).allMatch(BulkOrderStatusResult::isChanged);
+    }
+
+    @Test
+    void explicitlyRequestedOrdersInWrongStatusAreStillRejected() {
+        given(orderDao.findAllByIdInForUpdate(Arrays.asList(1L, 2L)))
+                .willReturn(Arrays.asList(order(1L, OrderStatus.COOKING), order(2L, OrderStatus.MEAL)));
+        given(orderLineItemDao.findAllByOrderIdIn(anyList())).willReturn(Collections.emptyList());
+
+        final List<BulkOrderStatusResult> results = orderBulkService.changeOrderStatuses(
+                change(OrderStatus.MEAL, Arrays.asList(1L, 2L), Collections.emptyList())
+        );
+
+        assertThat(results).extracting(BulkOrderStatusResult::isChanged).containsExactly(true, false);
+    }
+
+    @Test
+    void rejectsTooManyOrderIds() {
+        final List<Long> orderIds = LongStream.rangeClosed(1, 1_001)
+                .boxed()
+                .collect(Collectors.toList());
+
+        assertThatThrownBy(() -> orderBulkService.changeOrderStatuses(
+                change(OrderStatus.MEAL, orderIds, Collections.emptyList())
+        )).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(orderDao);
+    }
+
+    @Test
+    void rejectsTableSelectionsThatMatchTooManyOrders() {
+        final List<Order> orders = LongStream.rangeClosed(1, 1_001)
+                .mapToObj(id -> order(id, OrderStatus.COOKING))
+                .collect(Collectors.toList());
+        given(orderDao.findAllByIdInForUpdate(Collections.emptyList())).willReturn(Collections.emptyList());
+        given(orderDao.findAllByOrderTableIdInAndOrderStatusInForUpdate(anyList(), anyList(), anyInt()))
+                .willReturn(orders);
+
+        assertThatThrownBy(() -> orderBulkService.changeOrderStatuses(
+                change(OrderStatus.MEAL, Collections.emptyList(), Collections.singletonList(ORDER_TABLE_ID))
+        )).isInstanceOf(IllegalArgumentException.class);
+        verify(orderDao, never()).updateOrderStatuses(anyList(), anyList(), anyString());
+    }
+
+    @Test
+    void rejectedOrdersCarryTheirRejectionReason() {
+        given(menuDao.findAllByIdIn(anyList())).willReturn(Collections.singletonList(menu(MENU_ID)));
+        given(orderTableDao.findAllByIdIn(anyList())).willReturn(Collections.singletonList(orderTable(false)));
+
+        final List<BulkOrderResult> results = orderBulkService.createAll(Arrays.asList(
+                newOrder(ORDER_TABLE_ID),
+                newOrder(ORDER_TABLE_ID, MENU_ID, MENU_ID),
+                newOrder(ORDER_TABLE_ID, 99L),
+                newOrder(99L, MENU_ID)
+        ));
+
+        assertThat(results).extracting(BulkOrderResult::getRejectionReason).containsExactly(
+                BulkOrderRejectionReason.EMPTY_ORDER_LINE_ITEMS,
+                BulkOrderRejectionReason.DUPLICATE_MENU,
+                BulkOrderRejectionReason.UNKNOWN_MENU,
+                BulkOrderRejectionReason.UNKNOWN_ORDER_TABLE
+        );
+    }
+
+    @Test
+    void fallbackAfterRolledBackChunkCreatesFromUntouchedOrders() {
+        final Order order = newOrder(ORDER_TABLE_ID, MENU_ID);
+        given(menuDao.findAllByIdIn(anyList())).willReturn(Collections.singletonList(menu(MENU_ID)));
+        given(orderTableDao.findAllByIdIn(anyList())).willReturn(Collections.singletonList(orderTable(false)));
+        willAnswer(invocation -> {
+            final List<Order> orders = invocation.getArgument(0);
+            orders.forEach(saved -> saved.setId(10L));
+            return orders;
+        }).given(orderDao).saveAll(anyList());
+        given(orderLineItemDao.saveAll(anyList())).willThrow(new DataIntegrityViolationException("order_line_item"));
+        final List<Order> createdFrom = new ArrayList<>();
+        given(orderService.create(any())).willAnswer(invocation -> {
+            final Order copy = invocation.getArgument(0);
+            createdFrom.add(copy);
+            copy.setId(11L);
+            return copy;
+        });
+
+        final List<BulkOrderResult> results = orderBulkService.createAll(Collections.singletonList(order));
+
+        assertThat(results).allMatch(BulkOrderResult::isCreated);
+        assertThat(createdFrom).hasSize(1);
+        assertThat(createdFrom.get(0)).isNotSameAs(order);
+        assertThat(createdFrom.get(0).getId()).isEqualTo(11L);
+        assertThat(createdFrom.get(0).getOrderStatus()).isNull();
+        assertThat(createdFrom.get(0).getOrderLineItems()).extracting(OrderLineItem::getOrderId).containsOnlyNulls();
+        assertThat(order.getId()).isNull();
+        assertThat(order.getOrderStatus()).isNull();
+        assertThat(order.getOrderLineItems()).extracting(OrderLineItem::getOrderId).containsOnlyNulls();
+    }
+
+    private Order newOrder(final Long orderTableId, final Long... menuIds) {
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Long menuId : menuIds) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(menuId);
+            orderLineItem.setQuantity(1);
+            orderLineItems.add(orderLineItem);
+        }
+        final Order order = new Order();
+        order.setOrderTableId(orderTableId);
+        order.setOrderLineItems(orderLineItems);
+        return order;
+    }
+
+    private Menu menu(final Long id) {
+        final Menu menu = new Menu();
+        menu.setId(id);
+        return menu;
+    }
+
+    private OrderTable orderTable(final boolean empty) {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setId(ORDER_TABLE_ID);
+        orderTable.setEmpty(empty);
+        return orderTable;
+    }
+
+    private OrderStatusChange change(
+            final OrderStatus orderStatus,
+            final List<Long> orderIds,
+            final List<Long> orderTableIds
+    ) {
+        final OrderStatusChange change = new OrderStatusChange();
+        change.setOrderStatus(orderStatus.name());
+        change.setOrderIds(orderIds);
+        change.setOrderTableIds(orderTableIds);
+        return change;
+    }
+
+    private Order order(final Long id, final OrderStatus orderStatus) {
+        final Order order = new Order();
+        order.setId(id);
+        order.setOrderTableId(ORDER_TABLE_ID);
+        order.setOrderStatus(orderStatus.name());
+        return order;
+    }
+}
@@ -0,0 +1,100 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.dao.OrderSearchCondition;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceTest {
+    @Mock
+    private MenuDao menuDao;
+
+    @Mock
+    private OrderDao orderDao;
+
+    @Mock
+    private OrderLineItemDao orderLineItemDao;
+
+    @Mock
+    private OrderTableDao orderTableDao;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    @Test
+    void findIdsDelegatesToOrderDao() {
+        final OrderSearchCondition condition = new OrderSearchCondition(
+                0L, 3, null, null, null, null, false
+        );
+        given(orderDao.findAllIds(condition)).willReturn(Arrays.asList(1L, 2L, 3L));
+
+        assertThat(orderService.findIds(condition)).containsExactly(1L, 2L, 3L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 1_000})
+    void listRunsConstantNumberOfQueries(final int numberOfOrders) {
+        final List<Long> orderIds = new ArrayList<>();
+        for (long id = 1; id <= numberOfOrders; id++) {
+            orderIds.add(id);
+        }
+        willAnswer(invocation -> {
+            final Consumer<Order> consumer = invocation.getArgument(2);
+            for (final Long id : orderIds) {
+                final Order order = order(id);
+                order.setOrderLineItems(Collections.singletonList(orderLineItem(id, id)));
+                consumer.accept(order);
+            }
+            return null;
+        }).given(orderDao).findAllWithOrderLineItemsByIdIn(eq(orderIds), eq(false), any());
+
+        final List<Order> result = new ArrayList<>();
+        orderService.list(orderIds, false, result::add);
+
+        assertThat(result).hasSize(numberOfOrders);
+        assertThat(result).allSatisfy(order -> assertThat(order.getOrderLineItems())
+                .extracting(OrderLineItem::getOrderId)
+                .containsExactly(order.getId()));
+        verify(orderDao, times(1)).findAllWithOrderLineItemsByIdIn(eq(orderIds), eq(false), any());
+        verifyNoMoreInteractions(orderDao, orderLineItemDao);
+    }
+
+    private Order order(final Long id) {
+        final Order order = new Order();
+        order.setId(id);
+        return order;
+    }
+
+    private OrderLineItem orderLineItem(final Long seq, final Long orderId) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setSeq(seq);
+        orderLineItem.setOrderId(orderId);
+        return orderLineItem;
+    }
+}
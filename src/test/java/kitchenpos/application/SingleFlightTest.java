@@ -0,0 +1,128 @@
+package kitchenpos.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+    private static final int CALLER_COUNT = 16;
+
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        final AtomicInteger loadCount = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch followersCalling = new CountDownLatch(CALLER_COUNT - 1);
+        final List<Thread> followerThreads = new CopyOnWriteArrayList<>();
+        final ExecutorService executorService = Executors.newFixedThreadPool(CALLER_COUNT);
+        try {
+            final Future<Integer> leader = executorService.submit(() -> singleFlight.execute("menus", () -> {
+                loading.countDown();
+                await(followersCalling);
+                followerThreads.forEach(SingleFlightTest::awaitBlocked);
+                return loadCount.incrementAndGet();
+            }));
+            loading.await();
+            final List<Future<Integer>> followers = new ArrayList<>();
+            for (int i = 1; i < CALLER_COUNT; i++) {
+                followers.add(executorService.submit(() -> {
+                    followerThreads.add(Thread.currentThread());
+                    followersCalling.countDown();
+                    return singleFlight.execute("menus", loadCount::incrementAndGet);
+                }));
+            }
+
+            assertThat(leader.get()).isEqualTo(1);
+            for (final Future<Integer> follower : followers) {
+                assertThat(follower.get()).isEqualTo(1);
+            }
+            assertThat(loadCount).hasValue(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void followerKeepsWaitingForSlowLeaderInsteadOfLoading() throws Exception {
+        final AtomicInteger loadCount = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicReference<Thread> followerThread = new AtomicReference<>();
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Integer> leader = executorService.submit(() -> singleFlight.execute("menus", () -> {
+                loading.countDown();
+                await(release);
+                return loadCount.incrementAndGet();
+            }));
+            loading.await();
+            final Future<Integer> follower = executorService.submit(() -> {
+                followerThread.set(Thread.currentThread());
+                return singleFlight.execute("menus", loadCount::incrementAndGet);
+            });
+            while (Objects.isNull(followerThread.get())) {
+                Thread.onSpinWait();
+            }
+            awaitBlocked(followerThread.get());
+            Thread.sleep(100);
+
+            assertThat(follower.isDone()).isFalse();
+            assertThat(loadCount).hasValue(0);
+
+            release.countDown();
+            assertThat(leader.get()).isEqualTo(1);
+            assertThat(follower.get()).isEqualTo(1);
+            assertThat(loadCount).hasValue(1);
+        } finally {
+            release.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void loadsAgainAfterPreviousLoadCompleted() {
+        final AtomicInteger loadCount = new AtomicInteger();
+
+        singleFlight.execute("menus", loadCount::incrementAndGet);
+        singleFlight.execute("menus", loadCount::incrementAndGet);
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void propagatesLoaderFailure() {
+        assertThatThrownBy(() -> singleFlight.execute("menus", () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("menus", () -> 1)).isEqualTo(1);
+    }
+
+    private static void awaitBlocked(final Thread thread) {
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.BillDao;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTableBill;
+import kitchenpos.domain.TableGroupBill;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TableGroupBillServiceTest {
+    private static final Long TABLE_GROUP_ID = 1L;
+    private static final Long ORDER_TABLE_ID = 11L;
+    private static final Long OTHER_ORDER_TABLE_ID = 12L;
+
+    @Mock
+    private BillDao billDao;
+
+    @InjectMocks
+    private TableGroupBillService tableGroupBillService;
+
+    @Test
+    void servesCachedBillUntilSomethingChanges() {
+        given(billDao.findAllByTableGroupId(eq(TABLE_GROUP_ID), anyList()))
+                .willReturn(orderTableBills(16_000L));
+
+        tableGroupBillService.getBill(TABLE_GROUP_ID);
+        final TableGroupBill bill = tableGroupBillService.getBill(TABLE_GROUP_ID);
+
+        assertThat(bill.getTotalPrice()).isEqualTo(Money.ofMinorUnits(2_600_000L));
+        verify(billDao, times(1)).findAllByTableGroupId(eq(TABLE_GROUP_ID), anyList());
+    }
+
+    @Test
+    void billIncludesOrderCreatedInGroup() {
+        given(billDao.findAllByTableGroupId(eq(TABLE_GROUP_ID), anyList()))
+                .willReturn(orderTableBills(16_000L))
+                .willReturn(orderTableBills(32_000L));
+        tableGroupBillService.getBill(TABLE_GROUP_ID);
+
+        tableGroupBillService.onOrderChanged(OrderChangedEvent.created(order(ORDER_TABLE_ID, OrderStatus.COOKING)));
+
+        assertThat(tableGroupBillService.getBill(TABLE_GROUP_ID).getTotalPrice())
+                .isEqualTo(Money.ofMinorUnits(4_200_000L));
+    }
+
+    @Test
+    void billReflectsOrderStatusChange() {
+        given(billDao.findAllByTableGroupId(eq(TABLE_GROUP_ID), anyList()))
+                .willReturn(orderTableBills(16_000L))
+                .willReturn(orderTableBills(0L));
+        tableGroupBillService.getBill(TABLE_GROUP_ID);
+
+        tableGroupBillService.onOrderChanged(
+                OrderChangedEvent.statusChanged(order(ORDER_TABLE_ID, OrderStatus.COMPLETION))
+        );
+
+        assertThat(tableGroupBillService.getBill(TABLE_GROUP_ID).getTotalPrice())
+                .isEqualTo(Money.ofMinorUnits(1_000_000L));
+    }
+
+    @Test
+    void loadRacingWithInvalidationIsNotCached() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch invalidated = new CountDownLatch(1);
+        given(billDao.findAllByTableGroupId(eq(TABLE_GROUP_ID), anyList()))
+                .willAnswer(invocation -> {
+                    loading.countDown();
+                    invalidated.await();
+                    return orderTableBills(16_000L);
+                })
+                .willReturn(orderTableBills(32_000L));
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<TableGroupBill> staleLoad = executorService.submit(
+                    () -> tableGroupBillService.getBill(TABLE_GROUP_ID)
+            );
+            loading.await();
+            tableGroupBillService.onOrderChanged(
+                    OrderChangedEvent.created(order(OTHER_ORDER_TABLE_ID, OrderStatus.COOKING))
+            );
+            invalidated.countDown();
+
+            assertThat(staleLoad.get().getTotalPrice()).isEqualTo(Money.ofMinorUnits(2_600_000L));
+            assertThat(tableGroupBillService.getBill(TABLE_GROUP_ID).getTotalPrice())
+                    .isEqualTo(Money.ofMinorUnits(4_200_000L));
+        } finally {
+            invalidated.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void ungroupEvictsBillAfterCommit() {
+        given(billDao.findAllByTableGroupId(eq(TABLE_GROUP_ID), anyList()))
+                .willReturn(orderTableBills(16_000L));
+        tableGroupBillService.getBill(TABLE_GROUP_ID);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tableGroupBillService.invalidate(TABLE_GROUP_ID);
+            tableGroupBillService.getBill(TABLE_GROUP_ID);
+            verify(billDao, times(1)).findAllByTableGroupId(eq(TABLE_GROUP_ID), anyList());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        tableGroupBillService.getBill(TABLE_GROUP_ID);
+        verify(billDao, times(2)).findAllByTableGroupId(eq(TABLE_GROUP_ID), anyList());
+    }
+
+    private List<OrderTableBill> orderTableBills(final long firstTablePrice) {
+        return Arrays.asList(
+                orderTableBill(ORDER_TABLE_ID, firstTablePrice),
+                orderTableBill(OTHER_ORDER_TABLE_ID, 10_000L)
+        );
+    }
+
+    private OrderTableBill orderTableBill(final Long orderTableId, final long price) {
+        final OrderTableBill orderTableBill = new OrderTableBill();
+        orderTableBill.setOrderTableId(orderTableId);
+        orderTableBill.setOrderCount(1L);
+        orderTableBill.setPrice(Money.ofMinorUnits(price * 100L));
+        return orderTableBill;
+    }
+
+    private Order order(final Long orderTableId, final OrderStatus orderStatus) {
+        final Order order = new Order();
+        order.setId(100L);
+        order.setOrderTableId(orderTableId);
+        order.setOrderStatus(orderStatus.name());
+        return order;
+    }
+}
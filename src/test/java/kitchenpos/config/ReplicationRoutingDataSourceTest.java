@@ -0,0 +1,206 @@
+package kitchenpos.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.servlet.http.Cookie;
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+    private final DataSource primary = database(ReplicationRoutingDataSource.PRIMARY);
+    private final DataSource replica = database(ReplicationRoutingDataSource.REPLICA);
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        final DataSource dataSource = routingDataSource(Duration.ZERO);
+
+        assertThat(currentDatabase(dataSource, true)).isEqualTo(ReplicationRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void routesReadWriteTransactionsToPrimary() {
+        final DataSource dataSource = routingDataSource(Duration.ZERO);
+
+        assertThat(currentDatabase(dataSource, false)).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void routesStatementsOutsideTransactionsToPrimary() {
+        final DataSource dataSource = routingDataSource(Duration.ZERO);
+
+        assertThat(new JdbcTemplate(dataSource).queryForObject("SELECT name FROM marker", String.class))
+                .isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void routesReadsWithinLagToleranceAfterWriteToPrimary() {
+        final DataSource dataSource = routingDataSource(Duration.ofMinutes(1));
+        ClientWriteTimestamp.open(null, writtenAtMillis -> {
+        });
+        try {
+            currentDatabase(dataSource, false);
+
+            assertThat(currentDatabase(dataSource, true)).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+        } finally {
+            ClientWriteTimestamp.close();
+        }
+    }
+
+    @Test
+    void routesReadsOfTheWritingClientToPrimaryOnItsNextRequest() throws Exception {
+        final DataSource dataSource = routingDataSource(Duration.ofMinutes(1));
+        final ClientWriteTimestampFilter filter = new ClientWriteTimestampFilter(Duration.ofMinutes(1));
+
+        final MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        handle(filter, new MockHttpServletRequest(), writeResponse, () -> currentDatabase(dataSource, false));
+        final Cookie writeCookie = writeResponse.getCookie(ClientWriteTimestampFilter.COOKIE_NAME);
+
+        final MockHttpServletRequest sameClientRequest = new MockHttpServletRequest();
+        sameClientRequest.setCookies(writeCookie);
+        final AtomicReference<String> sameClientDatabase = new AtomicReference<>();
+        handle(filter, sameClientRequest, new MockHttpServletResponse(),
+                () -> sameClientDatabase.set(currentDatabase(dataSource, true)));
+
+        final AtomicReference<String> otherClientDatabase = new AtomicReference<>();
+        handle(filter, new MockHttpServletRequest(), new MockHttpServletResponse(),
+                () -> otherClientDatabase.set(currentDatabase(dataSource, true)));
+
+        assertThat(writeCookie).isNotNull();
+        assertThat(sameClientDatabase.get()).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+        assertThat(otherClientDatabase.get()).isEqualTo(ReplicationRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void ignoresWriteTokensOlderThanLagTolerance() throws Exception {
+        final DataSource dataSource = routingDataSource(Duration.ofSeconds(1));
+        final byte[] secret = "routing-test-secret".getBytes(StandardCharsets.UTF_8);
+        final ClientWriteTimestampFilter writeFilter =
+                new ClientWriteTimestampFilter(Duration.ofSeconds(1), secret, Clock.systemUTC());
+        final ClientWriteTimestampFilter laterFilter = new ClientWriteTimestampFilter(
+                Duration.ofSeconds(1), secret, Clock.offset(Clock.systemUTC(), Duration.ofSeconds(5))
+        );
+        final MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        handle(writeFilter, new MockHttpServletRequest(), writeResponse, () -> currentDatabase(dataSource, false));
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(writeResponse.getCookie(ClientWriteTimestampFilter.COOKIE_NAME));
+        final AtomicReference<Long> lastWriteMillis = new AtomicReference<>();
+
+        handle(laterFilter, request, new MockHttpServletResponse(), () -> lastWriteMillis.set(ClientWriteTimestamp.get()));
+
+        assertThat(lastWriteMillis.get()).isNull();
+    }
+
+    @Test
+    void ignoresUnsignedAndTamperedWriteTokens() throws Exception {
+        final ClientWriteTimestampFilter filter = new ClientWriteTimestampFilter(Duration.ofMinutes(1));
+        final String forged = String.valueOf(System.currentTimeMillis() + Duration.ofDays(365).toMillis());
+        final String signed = filter.token(System.currentTimeMillis());
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Last-Write", forged);
+        request.setCookies(
+                new Cookie(ClientWriteTimestampFilter.COOKIE_NAME, forged),
+                new Cookie(ClientWriteTimestampFilter.COOKIE_NAME, forged + signed.substring(signed.indexOf('.')))
+        );
+        final AtomicReference<Long> lastWriteMillis = new AtomicReference<>();
+
+        handle(filter, request, new MockHttpServletResponse(), () -> lastWriteMillis.set(ClientWriteTimestamp.get()));
+
+        assertThat(lastWriteMillis.get()).isNull();
+    }
+
+    @Test
+    void clampsFutureWriteTokensToNow() throws Exception {
+        final Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        final ClientWriteTimestampFilter filter = new ClientWriteTimestampFilter(
+                Duration.ofMinutes(1), "routing-test-secret".getBytes(StandardCharsets.UTF_8), clock
+        );
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(
+                ClientWriteTimestampFilter.COOKIE_NAME, filter.token(clock.millis() + Duration.ofDays(1).toMillis())
+        ));
+        final AtomicReference<Long> lastWriteMillis = new AtomicReference<>();
+
+        handle(filter, request, new MockHttpServletResponse(), () -> lastWriteMillis.set(ClientWriteTimestamp.get()));
+
+        assertThat(lastWriteMillis.get()).isEqualTo(clock.millis());
+    }
+
+    @Test
+    void routesStreamedReadsOfTheWritingClientToPrimaryOnTheStreamingExecutor() throws Exception {
+        final DataSource dataSource = routingDataSource(Duration.ofMinutes(1));
+        final ClientWriteTimestampFilter filter = new ClientWriteTimestampFilter(Duration.ofMinutes(1));
+        final ThreadPoolTaskExecutor streamingTaskExecutor =
+                new AsyncStreamingConfig(1, 1, Duration.ofMinutes(1)).streamingTaskExecutor();
+        streamingTaskExecutor.initialize();
+        try {
+            final MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+            handle(filter, new MockHttpServletRequest(), writeResponse, () -> currentDatabase(dataSource, false));
+
+            final MockHttpServletRequest sameClientRequest = new MockHttpServletRequest();
+            sameClientRequest.setCookies(writeResponse.getCookie(ClientWriteTimestampFilter.COOKIE_NAME));
+            final AtomicReference<Future<String>> sameClientDatabase = new AtomicReference<>();
+            handle(filter, sameClientRequest, new MockHttpServletResponse(), () -> sameClientDatabase.set(
+                    streamingTaskExecutor.submit(() -> currentDatabase(dataSource, true))
+            ));
+
+            final AtomicReference<Future<String>> otherClientDatabase = new AtomicReference<>();
+            handle(filter, new MockHttpServletRequest(), new MockHttpServletResponse(), () -> otherClientDatabase.set(
+                    streamingTaskExecutor.submit(() -> currentDatabase(dataSource, true))
+            ));
+
+            assertThat(sameClientDatabase.get().get(10, TimeUnit.SECONDS))
+                    .isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+            assertThat(otherClientDatabase.get().get(10, TimeUnit.SECONDS))
+                    .isEqualTo(ReplicationRoutingDataSource.REPLICA);
+        } finally {
+            streamingTaskExecutor.shutdown();
+        }
+    }
+
+    private void handle(
+            final ClientWriteTimestampFilter filter,
+            final MockHttpServletRequest request,
+            final MockHttpServletResponse response,
+            final Runnable handler
+    ) throws Exception {
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> handler.run());
+    }
+
+    private DataSource routingDataSource(final Duration lagTolerance) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primary, replica, lagTolerance, Clock.systemUTC())
+        );
+    }
+
+    private String currentDatabase(final DataSource dataSource, final boolean readOnly) {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource)
+                .queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private static DataSource database(final String name) {
+        final DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", ""
+        );
+        new JdbcTemplate(dataSource).execute("CREATE TABLE IF NOT EXISTS marker AS SELECT '" + name + "' AS name");
+        return dataSource;
+    }
+}
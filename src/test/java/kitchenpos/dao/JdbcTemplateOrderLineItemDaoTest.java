@@ -0,0 +1,54 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.OrderLineItem;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcTemplateOrderLineItemDaoTest {
+    private static final int ORDER_COUNT = 2_500;
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcTemplateOrderLineItemDao orderLineItemDao;
+
+    @BeforeEach
+    void setUp() {
+        final DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:order-line-item-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""
+        );
+        Flyway.configure()
+                .dataSource(dataSource)
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        orderLineItemDao = new JdbcTemplateOrderLineItemDao(dataSource);
+    }
+
+    @Test
+    void findsLineItemsOfMoreOrdersThanOneInListChunk() {
+        final List<Object[]> orders = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orders.add(new Object[]{LocalDateTime.now()});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO orders (order_table_id, order_status, ordered_time) VALUES (1, 'COOKING', ?)", orders
+        );
+        jdbcTemplate.update("INSERT INTO order_line_item (order_id, menu_id, quantity) SELECT id, 1, 1 FROM orders");
+        final List<Long> orderIds = jdbcTemplate.queryForList("SELECT id FROM orders ORDER BY id", Long.class);
+
+        final List<OrderLineItem> orderLineItems = orderLineItemDao.findAllByOrderIdIn(orderIds);
+
+        assertThat(orderLineItems).extracting(OrderLineItem::getOrderId)
+                .containsExactlyElementsOf(orderIds);
+    }
+}
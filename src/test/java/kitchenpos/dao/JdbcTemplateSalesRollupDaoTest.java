@@ -0,0 +1,113 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.MenuSales;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcTemplateSalesRollupDaoTest {
+    private static final int WRITER_COUNT = 8;
+    private static final LocalDateTime ORDERED_TIME = LocalDateTime.of(2024, 1, 1, 12, 30);
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcTemplateSalesRollupDao salesRollupDao;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:sales-rollup-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", ""
+        );
+        Flyway.configure()
+                .dataSource(dataSource)
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        salesRollupDao = new JdbcTemplateSalesRollupDao(dataSource);
+    }
+
+    @Test
+    void concurrentRollupsOfTheSameHourAreAllCounted() throws Exception {
+        final List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < WRITER_COUNT; i++) {
+            orderIds.add(insertCompletedOrder(1L, 2L));
+        }
+        final TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (final Long orderId : orderIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    transactionTemplate.executeWithoutResult(
+                            status -> salesRollupDao.addCompletedOrders(Collections.singletonList(orderId))
+                    );
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final List<MenuSales> menuSales = salesRollupDao.findAllMenuSales(
+                ORDERED_TIME.withMinute(0), ORDERED_TIME.withMinute(0).plusHours(1)
+        );
+        assertThat(menuSales).hasSize(1);
+        assertThat(menuSales.get(0).getQuantity()).isEqualTo(WRITER_COUNT * 2L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT quantity FROM menu_group_sales_daily WHERE sales_date = ?", Long.class, ORDERED_TIME.toLocalDate()
+        )).isEqualTo(WRITER_COUNT * 2L);
+    }
+
+    @Test
+    void addsToExistingRollupRows() {
+        final Long firstOrderId = insertCompletedOrder(1L, 1L);
+        final Long secondOrderId = insertCompletedOrder(1L, 3L);
+
+        salesRollupDao.addCompletedOrders(Collections.singletonList(firstOrderId));
+        salesRollupDao.addCompletedOrders(Collections.singletonList(secondOrderId));
+
+        final List<MenuSales> menuSales = salesRollupDao.findAllMenuSales(
+                ORDERED_TIME.withMinute(0), ORDERED_TIME.withMinute(0).plusHours(1)
+        );
+        assertThat(menuSales).hasSize(1);
+        assertThat(menuSales.get(0).getQuantity()).isEqualTo(4L);
+    }
+
+    private Long insertCompletedOrder(final Long menuId, final long quantity) {
+        jdbcTemplate.update(
+                "INSERT INTO orders (order_table_id, order_status, ordered_time) VALUES (1, 'COMPLETION', ?)",
+                ORDERED_TIME
+        );
+        final Long orderId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM orders", Long.class);
+        jdbcTemplate.update(
+                "INSERT INTO order_line_item (order_id, menu_id, quantity) VALUES (?, ?, ?)",
+                orderId, menuId, quantity
+        );
+        return orderId;
+    }
+}
@@ -0,0 +1,84 @@
+package kitchenpos.domain;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @CsvSource({
+            "16000, 1600000",
+            "0.005, 1",
+            "0.004, 0",
+            "1.235, 124",
+            "-1.235, -124",
+            "19.999, 2000"
+    })
+    void roundsHalfUpToTwoDecimals(final BigDecimal amount, final long minorUnits) {
+        assertThat(Money.from(amount).getMinorUnits()).isEqualTo(minorUnits);
+    }
+
+    @Test
+    void rejectsAmountsBeyondLongRange() {
+        assertThatThrownBy(() -> Money.from(new BigDecimal("92233720368547758.08")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void plusThrowsOnOverflow() {
+        final Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> max.plus(Money.ofMinorUnits(1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void timesThrowsOnOverflow() {
+        final Money large = Money.ofMinorUnits(Long.MAX_VALUE / 2 + 1);
+
+        assertThatThrownBy(() -> large.times(2L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void plusAndTimesKeepExactMinorUnits() {
+        final Money price = Money.from(new BigDecimal("0.10"));
+
+        assertThat(price.times(3L).plus(Money.from(new BigDecimal("0.20"))))
+                .isEqualTo(Money.from(new BigDecimal("0.50")));
+    }
+
+    @Test
+    void roundTripsThroughJson() throws Exception {
+        final Money money = Money.from(new BigDecimal("16000.5"));
+
+        final String json = objectMapper.writeValueAsString(money);
+
+        assertThat(json).isEqualTo("16000.50");
+        assertThat(objectMapper.readValue(json, Money.class)).isEqualTo(money);
+    }
+
+    @Test
+    void roundTripsMenuPriceThroughJson() throws Exception {
+        final Menu menu = objectMapper.readValue("{\"name\":\"후라이드치킨\",\"price\":16000.125}", Menu.class);
+
+        assertThat(menu.getPrice()).isEqualTo(Money.ofMinorUnits(1_600_013L));
+        assertThat(objectMapper.writeValueAsString(menu)).contains("\"price\":16000.13");
+    }
+
+    @Test
+    void rejectsOverflowingJsonAmounts() {
+        assertThatThrownBy(() -> objectMapper.readValue("1e30", Money.class))
+                .isInstanceOf(JsonMappingException.class)
+                .hasRootCauseInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderTable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingJsonTest {
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void writesOrdersLikeObjectMapper() throws IOException {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setSeq(1L);
+        orderLineItem.setOrderId(1L);
+        orderLineItem.setMenuId(2L);
+        orderLineItem.setQuantity(3);
+        final Order order = new Order();
+        order.setId(1L);
+        order.setOrderTableId(4L);
+        order.setOrderStatus("COOKING");
+        order.setOrderedTime(LocalDateTime.of(2023, 1, 1, 12, 0));
+        order.setOrderLineItems(Collections.singletonList(orderLineItem));
+        final Order emptyOrder = new Order();
+
+        assertSameJson(Arrays.asList(order, emptyOrder), StreamingJson::writeOrder);
+    }
+
+    @Test
+    void writesOrderTablesLikeObjectMapper() throws IOException {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setId(1L);
+        orderTable.setNumberOfGuests(4);
+        orderTable.setEmpty(true);
+        final OrderTable groupedOrderTable = new OrderTable();
+        groupedOrderTable.setId(2L);
+        groupedOrderTable.setTableGroupId(1L);
+        groupedOrderTable.setActiveOrderCount(2);
+
+        assertSameJson(Arrays.asList(orderTable, groupedOrderTable), StreamingJson::writeOrderTable);
+    }
+
+    @Test
+    void writesMenusLikeObjectMapper() throws IOException {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setSeq(1L);
+        menuProduct.setMenuId(1L);
+        menuProduct.setProductId(2L);
+        menuProduct.setQuantity(2);
+        final Menu menu = new Menu();
+        menu.setId(1L);
+        menu.setName("후라이드+후라이드");
+        menu.setPrice(Money.ofMinorUnits(1_900_000L));
+        menu.setMenuGroupId(1L);
+        menu.setMenuProducts(Collections.singletonList(menuProduct));
+
+        assertSameJson(Arrays.asList(menu, new Menu()), StreamingJson::writeMenu);
+    }
+
+    @Test
+    void writesOrderLinesLikeObjectMapper() throws IOException {
+        final Order order = new Order();
+        order.setId(1L);
+        order.setOrderStatus("MEAL");
+        order.setOrderLineItems(Collections.emptyList());
+        final Order anotherOrder = new Order();
+        anotherOrder.setId(2L);
+        final List<Order> orders = Arrays.asList(order, anotherOrder);
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StreamingJson.lines(objectMapper.getFactory(), orders::forEach, StreamingJson::writeOrder)
+                .writeTo(outputStream);
+
+        assertThat(outputStream.toString("UTF-8")).isEqualTo(
+                objectMapper.writeValueAsString(order) + "\n" + objectMapper.writeValueAsString(anotherOrder) + "\n"
+        );
+    }
+
+    private <T> void assertSameJson(final List<T> rows, final StreamingJson.RowWriter<T> rowWriter) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StreamingJson.array(objectMapper.getFactory(), rows::forEach, rowWriter)
+                .writeTo(outputStream);
+
+        assertThat(outputStream.toString("UTF-8")).isEqualTo(objectMapper.writeValueAsString(rows));
+    }
+}